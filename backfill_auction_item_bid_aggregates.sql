@@ -0,0 +1,29 @@
+-- Backfill the bid aggregate columns on auction_items
+-- Run this once AFTER the application has started and added the new columns
+
+-- Items that already have bids get their count, distinct bidders and highest bid
+UPDATE auction_items ai
+SET
+    bid_count = agg.bid_count,
+    distinct_bidder_count = agg.distinct_bidder_count
+FROM (
+    SELECT auction_item_id, COUNT(*) AS bid_count, COUNT(DISTINCT bidder_id) AS distinct_bidder_count
+    FROM bids
+    GROUP BY auction_item_id
+) agg
+WHERE agg.auction_item_id = ai.id;
+
+UPDATE auction_items ai
+SET highest_bid_id = (
+    SELECT b.id
+    FROM bids b
+    WHERE b.auction_item_id = ai.id
+    ORDER BY b.amount DESC, b.bid_time ASC
+    LIMIT 1
+)
+WHERE ai.highest_bid_id IS NULL;
+
+-- Verify the changes
+SELECT id, status, current_bid, bid_count, distinct_bidder_count, highest_bid_id
+FROM auction_items
+ORDER BY id;
@@ -0,0 +1,53 @@
+#!/bin/bash
+
+# Compare /auction/view throughput with and without the "virtual" profile.
+#
+# Usage:
+#   1. Start the app normally:            SPRING_PROFILES_ACTIVE=docker docker compose up -d
+#      ./benchmark_virtual_threads.sh platform
+#   2. Restart it with virtual threads:   SPRING_PROFILES_ACTIVE=docker,virtual docker compose up -d
+#      ./benchmark_virtual_threads.sh virtual
+#
+# Requires "hey" (https://github.com/rakyll/hey). Results go to benchmark-results/.
+
+LABEL=${1:-run}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+USERNAME=${BENCH_USERNAME:-commissioner}
+PASSWORD=${BENCH_PASSWORD:-password}
+CONCURRENCY=${CONCURRENCY:-500}
+DURATION=${DURATION:-60s}
+TARGET_PATH=${TARGET_PATH:-/auction/view}
+
+if ! command -v hey >/dev/null 2>&1; then
+    echo "❌ Error: 'hey' is not installed (go install github.com/rakyll/hey@latest)"
+    exit 1
+fi
+
+echo "🔐 Logging in as $USERNAME..."
+COOKIE_JAR=$(mktemp)
+curl -s -c "$COOKIE_JAR" -o /dev/null \
+    -d "username=$USERNAME&password=$PASSWORD" \
+    "$BASE_URL/login"
+SESSION=$(awk '$6 == "JSESSIONID" { print $7 }' "$COOKIE_JAR")
+rm -f "$COOKIE_JAR"
+
+if [ -z "$SESSION" ]; then
+    echo "❌ Error: Login failed, no session cookie returned"
+    exit 1
+fi
+echo "✅ Logged in"
+
+echo "🔥 Warming up..."
+hey -z 10s -c 50 -H "Cookie: JSESSIONID=$SESSION" "$BASE_URL$TARGET_PATH" >/dev/null
+
+mkdir -p benchmark-results
+RESULT_FILE="benchmark-results/$LABEL-$(date +%Y%m%d-%H%M%S).txt"
+
+echo "📊 Running $CONCURRENCY concurrent viewers for $DURATION against $TARGET_PATH..."
+hey -z "$DURATION" -c "$CONCURRENCY" -H "Cookie: JSESSIONID=$SESSION" "$BASE_URL$TARGET_PATH" | tee "$RESULT_FILE"
+
+echo ""
+echo "📋 Summary ($LABEL):"
+grep -E "Requests/sec|Average|99%|\[200\]|\[5[0-9][0-9]\]" "$RESULT_FILE"
+echo ""
+echo "✅ Full results saved to $RESULT_FILE"
@@ -0,0 +1,17 @@
+-- Partial indexes for the free-agent pool on the auction management page
+-- CONCURRENTLY avoids locking the tables; run each statement outside a transaction
+
+-- Free agents only (owner_id IS NULL), in the page's default name order; rostered players are left out of the index
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_players_free_agents
+    ON players (name, id)
+    WHERE owner_id IS NULL;
+
+-- Anti-join probe: is this player currently up for auction?
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_auction_items_active_player
+    ON auction_items (player_id)
+    WHERE status = 'ACTIVE';
+
+-- Verify the indexes
+SELECT indexname, indexdef
+FROM pg_indexes
+WHERE indexname IN ('idx_players_free_agents', 'idx_auction_items_active_player');
@@ -0,0 +1,20 @@
+-- Switch player ids to a pooled sequence so imports can batch their inserts
+-- Hibernate now reserves 50 ids per nextval call, so the sequence must step by 50.
+-- Run this before deploying; until then Hibernate falls back to the database increment.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'players' AND column_name = 'id' AND is_identity = 'YES') THEN
+        -- Tables created by Hibernate 6 use an identity column backed by players_id_seq
+        ALTER TABLE players ALTER COLUMN id SET INCREMENT BY 50;
+    ELSE
+        -- Older tables use a serial column
+        ALTER SEQUENCE players_id_seq INCREMENT BY 50;
+    END IF;
+END $$;
+
+-- Verify the increment
+SELECT sequencename, increment_by, last_value
+FROM pg_sequences
+WHERE sequencename = 'players_id_seq';
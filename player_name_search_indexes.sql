@@ -0,0 +1,18 @@
+-- Indexes for accent-insensitive player name lookups on players.normalized_name
+-- Run AFTER the application has started once: it adds the column and fills it for existing players
+-- CONCURRENTLY avoids locking the table; run each statement outside a transaction
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Exact duplicate checks during import (normalized_name = ?)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_players_normalized_name
+    ON players (normalized_name);
+
+-- Fuzzy search (:query <% normalized_name), e.g. "acuna" matching "ronald acuna jr."
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_players_normalized_name_trgm
+    ON players USING gin (normalized_name gin_trgm_ops);
+
+-- Verify every player has a normalized name
+SELECT COUNT(*) AS players_missing_normalized_name
+FROM players
+WHERE normalized_name IS NULL;
@@ -0,0 +1,12 @@
+-- Index for the commissioner's league-wide roster export, which pages through rostered
+-- players in (owner_id, id) order; it also serves per-team roster lookups by owner_id
+-- CONCURRENTLY avoids locking the table; run the statement outside a transaction
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_players_rostered_owner
+    ON players (owner_id, id)
+    WHERE owner_id IS NOT NULL;
+
+-- Verify the index
+SELECT indexname, indexdef
+FROM pg_indexes
+WHERE indexname = 'idx_players_rostered_owner';
@@ -0,0 +1,35 @@
+-- Aligns salary units and tracks buyout fees separately from rostered salary
+-- Run this AFTER the application has started once and added the users.buyout_fees_used column
+
+-- Auction-won players were saved with AAS in millions (the winning bid); store dollars like everyone else
+UPDATE players p
+SET
+    average_annual_salary = p.average_annual_salary * 1000000,
+    contract_amount = p.contract_amount * 1000000
+FROM pending_contracts pc
+WHERE pc.player_id = p.id
+  AND pc.status = 'POSTED'
+  AND p.owner_id = pc.winner_id
+  AND p.average_annual_salary = pc.winning_bid;
+
+-- Buyout fees charged so far, in millions
+UPDATE users u
+SET buyout_fees_used = COALESCE((
+    SELECT SUM(pc.buyout_fee)
+    FROM pending_contracts pc
+    WHERE pc.winner_id = u.id
+      AND pc.status IN ('EXPIRED', 'BOUGHT_OUT')
+), 0.0);
+
+-- Salary used = rostered AAS (in millions) + buyout fees; the hourly reconciliation keeps it there
+UPDATE users u
+SET current_salary_used = u.buyout_fees_used + COALESCE((
+    SELECT SUM(p.average_annual_salary) / 1000000
+    FROM players p
+    WHERE p.owner_id = u.id
+), 0.0);
+
+-- Verify the results
+SELECT username, current_salary_used, buyout_fees_used
+FROM users
+ORDER BY username;
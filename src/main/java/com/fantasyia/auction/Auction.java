@@ -1,9 +1,13 @@
 package com.fantasyia.auction;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "auction")
 @Table(name = "auctions")
 public class Auction {
     @Id
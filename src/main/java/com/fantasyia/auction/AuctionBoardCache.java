@@ -0,0 +1,63 @@
+package com.fantasyia.auction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Shares one {@link AuctionBoardSnapshot} between every viewer of the auction board. Each
+ * {@link AuctionBoardEvent} bumps the generation once its transaction commits; the next view
+ * rebuilds the snapshot and all other viewers reuse it until the board changes again.
+ */
+@Component
+public class AuctionBoardCache {
+
+    @Autowired
+    @Lazy
+    private AuctionService auctionService;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    // A lock rather than synchronized so a virtual thread waiting on the rebuild does not pin its carrier
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile AuctionBoardSnapshot snapshot;
+
+    public AuctionBoardSnapshot getSnapshot(Auction auction) {
+        AuctionBoardSnapshot current = snapshot;
+        if (isCurrent(current, auction)) {
+            return current;
+        }
+
+        rebuildLock.lock();
+        try {
+            current = snapshot;
+            if (isCurrent(current, auction)) {
+                return current;
+            }
+
+            current = auctionService.buildBoardSnapshot(auction, generation.get());
+            snapshot = current;
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardEvent(AuctionBoardEvent event) {
+        generation.incrementAndGet();
+    }
+
+    private boolean isCurrent(AuctionBoardSnapshot current, Auction auction) {
+        return current != null
+                && current.getGeneration() == generation.get()
+                && Objects.equals(current.getAuctionId(), auction.getId())
+                && Objects.equals(current.getAuctionType(), auction.getAuctionType());
+    }
+}
@@ -0,0 +1,27 @@
+package com.fantasyia.auction;
+
+/**
+ * Published whenever something visible on the auction board changes: a bid is accepted, a
+ * player is added or removed, an item is awarded, or the auction type is switched.
+ */
+public class AuctionBoardEvent {
+    public static final String BID = "BID";
+    public static final String ADD = "ADD";
+    public static final String REMOVE = "REMOVE";
+    public static final String AWARD = "AWARD";
+    public static final String AUCTION_TYPE = "AUCTION_TYPE";
+
+    private final String type;
+    private final Long auctionId;
+    private final Long auctionItemId;
+
+    public AuctionBoardEvent(String type, Long auctionId, Long auctionItemId) {
+        this.type = type;
+        this.auctionId = auctionId;
+        this.auctionItemId = auctionItemId;
+    }
+
+    public String getType() { return type; }
+    public Long getAuctionId() { return auctionId; }
+    public Long getAuctionItemId() { return auctionItemId; }
+}
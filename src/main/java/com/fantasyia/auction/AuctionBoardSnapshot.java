@@ -0,0 +1,67 @@
+package com.fantasyia.auction;
+
+import com.fantasyia.team.Player;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Everything on the auction board that is the same for every viewer. Built once per board
+ * change by {@link AuctionBoardCache} and shared read-only between requests, so the items
+ * and players it holds are detached copies that must not be modified.
+ */
+public final class AuctionBoardSnapshot {
+    private final long generation;
+    private final Long auctionId;
+    private final String auctionType;
+    private final LocalDateTime builtAt;
+    private final List<AuctionItem> activeItems;
+    private final Map<Long, Player> playersMap;
+    private final Map<Long, Bid> highestBids;
+    private final Map<Long, Long> bidCounts;
+    private final Map<Long, Double> minimumNextBids;
+    private final long totalBids;
+
+    public AuctionBoardSnapshot(long generation, Auction auction, List<AuctionItem> activeItems,
+                                Map<Long, Player> playersMap, Map<Long, Bid> highestBids) {
+        this.generation = generation;
+        this.auctionId = auction.getId();
+        this.auctionType = auction.getAuctionType();
+        this.builtAt = LocalDateTime.now();
+        this.activeItems = List.copyOf(activeItems);
+        this.playersMap = Collections.unmodifiableMap(playersMap);
+        this.highestBids = Collections.unmodifiableMap(highestBids);
+
+        long total = 0;
+        Map<Long, Long> counts = new java.util.HashMap<>();
+        Map<Long, Double> minimums = new java.util.HashMap<>();
+        for (AuctionItem item : activeItems) {
+            counts.put(item.getId(), item.getBidCount());
+            minimums.put(item.getId(), item.getMinimumNextBid(auctionType));
+            total += item.getBidCount();
+        }
+        this.bidCounts = Collections.unmodifiableMap(counts);
+        this.minimumNextBids = Collections.unmodifiableMap(minimums);
+        this.totalBids = total;
+    }
+
+    public List<Long> getItemIds() {
+        return activeItems.stream()
+                .map(AuctionItem::getId)
+                .collect(Collectors.toList());
+    }
+
+    public long getGeneration() { return generation; }
+    public Long getAuctionId() { return auctionId; }
+    public String getAuctionType() { return auctionType; }
+    public LocalDateTime getBuiltAt() { return builtAt; }
+    public List<AuctionItem> getActiveItems() { return activeItems; }
+    public Map<Long, Player> getPlayersMap() { return playersMap; }
+    public Map<Long, Bid> getHighestBids() { return highestBids; }
+    public Map<Long, Long> getBidCounts() { return bidCounts; }
+    public Map<Long, Double> getMinimumNextBids() { return minimumNextBids; }
+    public long getTotalBids() { return totalBids; }
+}
@@ -4,14 +4,19 @@ import com.fantasyia.team.Player;
 import com.fantasyia.team.PlayerRepository;
 import com.fantasyia.team.ReleasedPlayer;
 import com.fantasyia.team.ReleasedPlayerRepository;
+import com.fantasyia.user.CurrentUser;
 import com.fantasyia.user.UserAccount;
 import com.fantasyia.user.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.time.LocalDateTime;
@@ -47,43 +52,62 @@ public class AuctionController {
     @Autowired
     private AuctionService auctionService;
 
+    @Autowired
+    private AuctionOrderBook auctionOrderBook;
+
+    @Autowired
+    private ContractDeadlineScheduler contractDeadlineScheduler;
+
+    @Autowired
+    private AuctionBoardCache auctionBoardCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private AuctionEventBus auctionEventBus;
+
+    @Autowired
+    private MainAuctionRegistry mainAuctionRegistry;
+
+    @Autowired
+    private AuctionExpiryScheduler auctionExpiryScheduler;
+
+    private static final int FREE_AGENT_PAGE_SIZE = 200;
+
+    private static final List<String> FREE_AGENT_SORTS = List.of("name", "position", "team");
+
+    private static final int FREE_AGENT_API_MAX_LIMIT = 200;
+
     @GetMapping("/manage")
-    public String manageAuctions(Model model) {
+    public String manageAuctions(@CurrentUser UserAccount user,
+                                 @RequestParam(defaultValue = "0") int page,
+                                 @RequestParam(required = false) String position,
+                                 @RequestParam(defaultValue = "name") String sort,
+                                 Model model) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            String username = auth.getName();
-            UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
             if (user == null || !"COMMISSIONER".equals(user.getRole())) {
                 return "redirect:/";
             }
 
-            Auction mainAuction = getOrCreateMainAuction(user.getId());
+            Auction mainAuction = mainAuctionRegistry.getOrCreateMainAuction(user.getId());
 
             List<AuctionItem> activeItems = auctionItemRepository.findByAuctionIdAndStatus(mainAuction.getId(), "ACTIVE");
             if (activeItems == null) {
                 activeItems = new java.util.ArrayList<>();
             }
+            auctionOrderBook.overlay(activeItems);
 
             List<AuctionItem> expiredItems = auctionItemRepository.findExpiredItems(mainAuction.getId(), LocalDateTime.now().minusHours(24));
             if (expiredItems == null) {
                 expiredItems = new java.util.ArrayList<>();
             }
 
-            List<Player> freeAgents = playerRepository.findByOwnerIdIsNull();
-            if (freeAgents == null) {
-                freeAgents = new java.util.ArrayList<>();
-            }
-
-            if (!activeItems.isEmpty()) {
-                List<Long> auctionPlayerIds = activeItems.stream()
-                        .map(AuctionItem::getPlayerId)
-                        .filter(id -> id != null)
-                        .collect(Collectors.toList());
-                freeAgents = freeAgents.stream()
-                        .filter(player -> player != null && !auctionPlayerIds.contains(player.getId()))
-                        .collect(Collectors.toList());
-            }
+            String positionFilter = position == null || position.isBlank() ? null : position;
+            String sortField = FREE_AGENT_SORTS.contains(sort) ? sort : "name";
+            PageRequest freeAgentRequest = PageRequest.of(Math.max(page, 0), FREE_AGENT_PAGE_SIZE,
+                    Sort.by(sortField).and(Sort.by("id")));
+            Page<Player> freeAgentPage = playerRepository.findFreeAgentsNotInAuction(positionFilter, freeAgentRequest);
 
             List<ReleasedPlayer> releasedPlayersQueue = releasedPlayerRepository.findByStatusOrderByReleasedAtDesc("PENDING");
             if (releasedPlayersQueue == null) {
@@ -95,12 +119,6 @@ public class AuctionController {
                 pendingContracts = new java.util.ArrayList<>();
             }
 
-            try {
-                handleExpiredContracts();
-            } catch (Exception e) {
-                System.err.println("Warning: Error handling expired contracts: " + e.getMessage());
-            }
-
             Map<Long, Player> playersMap = new java.util.HashMap<>();
             if (!activeItems.isEmpty()) {
                 List<Long> playerIds = activeItems.stream()
@@ -131,30 +149,32 @@ public class AuctionController {
 
             Map<Long, Bid> highestBids = new java.util.HashMap<>();
             Map<Long, Double> minimumNextBids = new java.util.HashMap<>();
+            try {
+                highestBids = findHighestBids(activeItems);
+            } catch (Exception e) {
+                System.err.println("Warning: Error getting highest bids: " + e.getMessage());
+            }
             for (AuctionItem item : activeItems) {
                 if (item != null && item.getId() != null) {
-                    try {
-                        Bid highestBid = bidRepository.findHighestBidForItem(item.getId());
-                        highestBids.put(item.getId(), highestBid);
-
-                        Double minBid = item.getMinimumNextBid(mainAuction.getAuctionType());
-                        minimumNextBids.put(item.getId(), minBid != null ? minBid : 0.5);
-                    } catch (Exception e) {
-                        System.err.println("Warning: Error getting bid info for item " + item.getId() + ": " + e.getMessage());
-                        minimumNextBids.put(item.getId(), 0.5);
-                    }
+                    Double minBid = item.getMinimumNextBid(mainAuction.getAuctionType());
+                    minimumNextBids.put(item.getId(), minBid != null ? minBid : 0.5);
                 }
             }
 
             model.addAttribute("auction", mainAuction);
             model.addAttribute("activeItems", activeItems);
             model.addAttribute("expiredItems", expiredItems);
-            model.addAttribute("freeAgents", freeAgents);
+            model.addAttribute("freeAgents", freeAgentPage.getContent());
+            model.addAttribute("freeAgentPage", freeAgentPage);
+            model.addAttribute("freeAgentCount", freeAgentPage.getTotalElements());
+            model.addAttribute("selectedPosition", positionFilter);
+            model.addAttribute("selectedSort", sortField);
             model.addAttribute("releasedPlayersQueue", releasedPlayersQueue);
             model.addAttribute("pendingContracts", pendingContracts);
             model.addAttribute("playersMap", playersMap);
             model.addAttribute("highestBids", highestBids);
             model.addAttribute("minimumNextBids", minimumNextBids);
+            model.addAttribute("contractsProcessedAt", contractDeadlineScheduler.getLastProcessedAt());
             model.addAttribute("currentDateTime", LocalDateTime.now());
 
             return "auction-manage";
@@ -165,6 +185,7 @@ public class AuctionController {
             model.addAttribute("activeItems", new java.util.ArrayList<>());
             model.addAttribute("expiredItems", new java.util.ArrayList<>());
             model.addAttribute("freeAgents", new java.util.ArrayList<>());
+            model.addAttribute("freeAgentCount", 0L);
             model.addAttribute("releasedPlayersQueue", new java.util.ArrayList<>());
             model.addAttribute("pendingContracts", new java.util.ArrayList<>());
             model.addAttribute("playersMap", new java.util.HashMap<>());
@@ -178,86 +199,39 @@ public class AuctionController {
     }
 
     @GetMapping("/view")
-    public String viewAuction(Model model) {
+    public String viewAuction(@CurrentUser UserAccount user, Model model) {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            String username = auth.getName();
-            UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
-            Auction mainAuction = getMainAuction();
+            Auction mainAuction = user != null && "COMMISSIONER".equals(user.getRole())
+                    ? mainAuctionRegistry.getOrCreateMainAuction(user.getId())
+                    : mainAuctionRegistry.getMainAuction();
             if (mainAuction == null) {
-                if (user != null && "COMMISSIONER".equals(user.getRole())) {
-                    mainAuction = new Auction(
-                            "Main Player Auction",
-                            LocalDateTime.now(),
-                            LocalDateTime.now().plusYears(1),
-                            user.getId(),
-                            "In-Season Free Agency: Players require 24 hours after first bid. Dynamic minimum bid increments."
-                    );
-                    mainAuction.setAuctionType("IN_SEASON");
-                    mainAuction = auctionRepository.save(mainAuction);
-                } else {
-                    model.addAttribute("noAuction", true);
-                    model.addAttribute("message", "No auction is currently active. Contact a commissioner to create one.");
-                    return "auction-view";
-                }
-            }
-
-            List<AuctionItem> activeItems = auctionItemRepository.findByAuctionIdAndStatus(mainAuction.getId(), "ACTIVE");
-
-            Map<Long, Player> playersMap = new java.util.HashMap<>();
-            if (!activeItems.isEmpty()) {
-                List<Long> playerIds = activeItems.stream()
-                        .map(AuctionItem::getPlayerId)
-                        .collect(Collectors.toList());
-
-                List<Player> players = playerRepository.findAllById(playerIds);
-                for (Player player : players) {
-                    playersMap.put(player.getId(), player);
-                }
-
-                List<AuctionItem> validItems = activeItems.stream()
-                        .filter(item -> playersMap.containsKey(item.getPlayerId()))
-                        .collect(Collectors.toList());
-                activeItems = validItems;
+                model.addAttribute("noAuction", true);
+                model.addAttribute("message", "No auction is currently active. Contact a commissioner to create one.");
+                return "auction-view";
             }
 
-            Map<Long, Bid> highestBids = new java.util.HashMap<>();
-            Map<Long, Long> bidCounts = new java.util.HashMap<>();
-            Map<Long, Double> minimumNextBids = new java.util.HashMap<>();
-            long totalBids = 0;
-
-            for (AuctionItem item : activeItems) {
-                Bid highestBid = bidRepository.findHighestBidForItem(item.getId());
-                highestBids.put(item.getId(), highestBid);
-
-                Long count = bidRepository.countBidsForItem(item.getId());
-                bidCounts.put(item.getId(), count);
-                totalBids += count;
-
-                minimumNextBids.put(item.getId(), item.getMinimumNextBid(mainAuction.getAuctionType()));
-            }
+            AuctionBoardSnapshot board = auctionBoardCache.getSnapshot(mainAuction);
+            List<Long> itemIds = board.getItemIds();
 
             Map<Long, List<Bid>> userBids = new java.util.HashMap<>();
             List<PendingContract> userPendingContracts = new java.util.ArrayList<>();
             if (user != null) {
-                if (!activeItems.isEmpty()) {
-                    for (AuctionItem item : activeItems) {
-                        List<Bid> bids = bidRepository.findBidsByUserForItem(item.getId(), user.getId());
-                        userBids.put(item.getId(), bids);
-                    }
+                if (!itemIds.isEmpty()) {
+                    userBids = bidRepository.findByAuctionItemIdInAndBidderIdOrderByBidTimeDesc(itemIds, user.getId())
+                            .stream()
+                            .collect(Collectors.groupingBy(Bid::getAuctionItemId));
                 }
 
                 userPendingContracts = pendingContractRepository.findByWinnerIdAndStatus(user.getId(), "PENDING");
             }
 
             model.addAttribute("auction", mainAuction);
-            model.addAttribute("activeItems", activeItems);
-            model.addAttribute("playersMap", playersMap);
-            model.addAttribute("highestBids", highestBids);
-            model.addAttribute("bidCounts", bidCounts);
-            model.addAttribute("totalBids", totalBids);
-            model.addAttribute("minimumNextBids", minimumNextBids);
+            model.addAttribute("activeItems", board.getActiveItems());
+            model.addAttribute("playersMap", board.getPlayersMap());
+            model.addAttribute("highestBids", board.getHighestBids());
+            model.addAttribute("bidCounts", board.getBidCounts());
+            model.addAttribute("totalBids", board.getTotalBids());
+            model.addAttribute("minimumNextBids", board.getMinimumNextBids());
             model.addAttribute("userBids", userBids);
             model.addAttribute("userPendingContracts", userPendingContracts);
             model.addAttribute("currentUser", user);
@@ -272,22 +246,56 @@ public class AuctionController {
         }
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamAuction() {
+        return auctionEventBus.subscribe();
+    }
+
+    /**
+     * Free agents not up for auction, ordered by name then id. Pass the previous response's
+     * nextAfterName and nextAfterId to fetch the following page.
+     */
+    @GetMapping(value = "/free-agents", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public FreeAgentPage listFreeAgents(@RequestParam(required = false) String position,
+                                        @RequestParam(required = false) String mlbTeam,
+                                        @RequestParam(required = false) Boolean minorLeaguer,
+                                        @RequestParam(required = false) String afterName,
+                                        @RequestParam(required = false) Long afterId,
+                                        @RequestParam(defaultValue = "50") int limit) {
+        String positionFilter = position == null || position.isBlank() ? null : position;
+        String teamFilter = mlbTeam == null || mlbTeam.isBlank() ? null : mlbTeam;
+        int pageSize = Math.min(Math.max(limit, 1), FREE_AGENT_API_MAX_LIMIT);
+
+        // Fetch one extra row to learn whether another page exists without counting
+        PageRequest request = PageRequest.of(0, pageSize + 1);
+        List<Player> players = afterName != null && afterId != null
+                ? playerRepository.findFreeAgentsAfter(afterName, afterId, positionFilter, teamFilter, minorLeaguer, request)
+                : playerRepository.findFreeAgentsFirstPage(positionFilter, teamFilter, minorLeaguer, request);
+
+        boolean hasMore = players.size() > pageSize;
+        if (hasMore) {
+            players = players.subList(0, pageSize);
+        }
+        Player last = hasMore ? players.get(players.size() - 1) : null;
+        return new FreeAgentPage(players.stream().map(FreeAgentSummary::new).toList(), hasMore,
+                last != null ? last.getName() : null,
+                last != null ? last.getId() : null);
+    }
+
     @PostMapping("/add-player")
-    public String addPlayerToAuction(@RequestParam Long playerId,
+    public String addPlayerToAuction(@CurrentUser UserAccount user, @RequestParam Long playerId,
                                      @RequestParam(defaultValue = "0.5") Double startingBid,
                                      RedirectAttributes redirectAttributes) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
         if (user == null || !"COMMISSIONER".equals(user.getRole())) {
             redirectAttributes.addFlashAttribute("error", "Only commissioners can add players to auction");
             return "redirect:/auction/manage";
         }
 
         try {
-            Auction mainAuction = getOrCreateMainAuction(user.getId());
+            Auction mainAuction = mainAuctionRegistry.getOrCreateMainAuction(user.getId());
 
             AuctionItem existingItem = auctionItemRepository.findByPlayerIdAndStatus(playerId, "ACTIVE");
             if (existingItem != null) {
@@ -313,6 +321,7 @@ public class AuctionController {
 
             AuctionItem auctionItem = new AuctionItem(playerId, mainAuction.getId(), startingBid, isMinorLeaguer, user.getId());
             auctionItemRepository.save(auctionItem);
+            eventPublisher.publishEvent(new AuctionBoardEvent(AuctionBoardEvent.ADD, mainAuction.getId(), auctionItem.getId()));
 
             String playerType = isMinorLeaguer ? "minor league" : "MLB";
             String increment = isMinorLeaguer ? "$100K" : "$1M";
@@ -329,14 +338,10 @@ public class AuctionController {
     }
 
     @PostMapping("/place-bid")
-    public String placeBid(@RequestParam Long auctionItemId,
+    public String placeBid(@CurrentUser UserAccount user, @RequestParam Long auctionItemId,
                            @RequestParam Double bidAmount,
                            RedirectAttributes redirectAttributes) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
         if (user == null) {
             return "redirect:/login";
         }
@@ -359,17 +364,14 @@ public class AuctionController {
     }
 
     @PostMapping("/add-released-player")
-    public String addReleasedPlayerToAuction(@RequestParam Long releasedPlayerId,
+    public String addReleasedPlayerToAuction(@CurrentUser UserAccount user,
+                                             @RequestParam Long releasedPlayerId,
                                              @RequestParam(defaultValue = "1.0") Double startingBid,
                                              RedirectAttributes redirectAttributes) {
-
         System.out.println("=== ADD RELEASED PLAYER TO AUCTION ===");
         System.out.println("Released Player ID: " + releasedPlayerId);
         System.out.println("Starting Bid: " + startingBid);
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
 
         if (user == null || !"COMMISSIONER".equals(user.getRole())) {
             redirectAttributes.addFlashAttribute("error", "Only commissioners can add players to auction");
@@ -390,7 +392,7 @@ public class AuctionController {
 
             System.out.println("Found released player: " + releasedPlayer.getPlayerName());
 
-            Auction mainAuction = getOrCreateMainAuction(user.getId());
+            Auction mainAuction = mainAuctionRegistry.getOrCreateMainAuction(user.getId());
             System.out.println("Main auction ID: " + mainAuction.getId());
 
             Player player = new Player(
@@ -408,6 +410,7 @@ public class AuctionController {
 
             AuctionItem auctionItem = new AuctionItem(player.getId(), mainAuction.getId(), startingBid);
             auctionItemRepository.save(auctionItem);
+            eventPublisher.publishEvent(new AuctionBoardEvent(AuctionBoardEvent.ADD, mainAuction.getId(), auctionItem.getId()));
             System.out.println("Auction item created");
 
             releasedPlayer.setStatus("ADDED_TO_AUCTION");
@@ -429,15 +432,11 @@ public class AuctionController {
     }
 
     @PostMapping("/reject-released-player")
-    public String rejectReleasedPlayer(@RequestParam Long releasedPlayerId,
+    public String rejectReleasedPlayer(@CurrentUser UserAccount user, @RequestParam Long releasedPlayerId,
                                        RedirectAttributes redirectAttributes) {
-
         System.out.println("=== REJECT RELEASED PLAYER ===");
         System.out.println("Released Player ID: " + releasedPlayerId);
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
 
         if (user == null || !"COMMISSIONER".equals(user.getRole())) {
             redirectAttributes.addFlashAttribute("error", "Only commissioners can manage the release queue");
@@ -476,13 +475,9 @@ public class AuctionController {
     }
 
     @PostMapping("/remove-player/{itemId}")
-    public String removePlayerFromAuction(@PathVariable Long itemId,
+    public String removePlayerFromAuction(@CurrentUser UserAccount user, @PathVariable Long itemId,
                                           RedirectAttributes redirectAttributes) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
         if (user == null || !"COMMISSIONER".equals(user.getRole())) {
             redirectAttributes.addFlashAttribute("error", "Only commissioners can remove players from auction");
             return "redirect:/auction/manage";
@@ -495,24 +490,21 @@ public class AuctionController {
                 return "redirect:/auction/manage";
             }
 
-            Auction auction = auctionRepository.findById(auctionItem.getAuctionId()).orElse(null);
+            Auction auction = mainAuctionRegistry.get(auctionItem.getAuctionId());
             if (auction == null) {
                 redirectAttributes.addFlashAttribute("error", "Auction not found");
                 return "redirect:/auction/manage";
             }
 
-            if (auctionItem.getCurrentBidderId() != null) {
-                AuctionService.ContractResult result = auctionService.awardPlayer(itemId);
+            auctionOrderBook.overlay(List.of(auctionItem));
+            AuctionService.ContractResult result = auctionItem.getCurrentBidderId() != null
+                    ? auctionService.awardPlayer(itemId)
+                    : auctionService.removeItemWithoutBids(itemId);
 
-                if (result.isSuccess()) {
-                    redirectAttributes.addFlashAttribute("success", result.getMessage());
-                } else {
-                    redirectAttributes.addFlashAttribute("error", result.getMessage());
-                }
+            if (result.isSuccess()) {
+                redirectAttributes.addFlashAttribute("success", result.getMessage());
             } else {
-                auctionItem.setStatus("REMOVED");
-                auctionItemRepository.save(auctionItem);
-                redirectAttributes.addFlashAttribute("success", "Player removed from auction (no bids)");
+                redirectAttributes.addFlashAttribute("error", result.getMessage());
             }
 
         } catch (Exception e) {
@@ -524,14 +516,10 @@ public class AuctionController {
     }
 
     @PostMapping("/post-contract")
-    public String postContract(@RequestParam Long pendingContractId,
+    public String postContract(@CurrentUser UserAccount user, @RequestParam Long pendingContractId,
                                @RequestParam Integer contractYears,
                                RedirectAttributes redirectAttributes) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
         if (user == null) {
             return "redirect:/login";
         }
@@ -554,13 +542,9 @@ public class AuctionController {
     }
 
     @PostMapping("/buyout-player")
-    public String buyoutPlayer(@RequestParam Long pendingContractId,
+    public String buyoutPlayer(@CurrentUser UserAccount user, @RequestParam Long pendingContractId,
                                RedirectAttributes redirectAttributes) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
         if (user == null) {
             return "redirect:/login";
         }
@@ -582,45 +566,33 @@ public class AuctionController {
         return "redirect:/auction/view";
     }
 
-    private void handleExpiredContracts() {
-        auctionService.processExpiredContracts();
-    }
-
-    private Auction getOrCreateMainAuction(Long commissionerId) {
-        List<Auction> activeAuctions = auctionRepository.findByStatus("ACTIVE");
-        if (!activeAuctions.isEmpty()) {
-            return activeAuctions.get(0);
+    private Map<Long, Bid> findHighestBids(List<AuctionItem> items) {
+        Map<Long, Bid> highestBids = new java.util.HashMap<>();
+        if (items.isEmpty()) {
+            return highestBids;
         }
 
-        Auction mainAuction = new Auction(
-                "Main Player Auction",
-                LocalDateTime.now(),
-                LocalDateTime.now().plusYears(1),
-                commissionerId,
-                "In-Season Free Agency: Players require 24 hours after first bid. Dynamic minimum bid increments based on time elapsed."
-        );
-        mainAuction.setAuctionType("IN_SEASON");
-        return auctionRepository.save(mainAuction);
-    }
-
-    private Auction getMainAuction() {
-        List<Auction> activeAuctions = auctionRepository.findByStatus("ACTIVE");
-        return activeAuctions.isEmpty() ? null : activeAuctions.get(0);
+        List<Long> highestBidIds = items.stream()
+                .map(AuctionItem::getHighestBidId)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toList());
+        for (Bid bid : bidRepository.findAllById(highestBidIds)) {
+            highestBids.put(bid.getAuctionItemId(), bid);
+        }
+        return highestBids;
     }
 
     @PostMapping("/toggle-auction-type")
-    public String toggleAuctionType(RedirectAttributes redirectAttributes) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
+    public String toggleAuctionType(@CurrentUser UserAccount user, RedirectAttributes redirectAttributes) {
         if (user == null || !"COMMISSIONER".equals(user.getRole())) {
             redirectAttributes.addFlashAttribute("error", "Only commissioners can change auction type");
             return "redirect:/auction/manage";
         }
 
         try {
-            Auction mainAuction = getOrCreateMainAuction(user.getId());
+            // Modify a fresh copy; the registry's instance is shared and is dropped once this commits
+            Long mainAuctionId = mainAuctionRegistry.getOrCreateMainAuction(user.getId()).getId();
+            Auction mainAuction = auctionRepository.findById(mainAuctionId).orElseThrow();
 
             if ("IN_SEASON".equals(mainAuction.getAuctionType())) {
                 mainAuction.setAuctionType("OFF_SEASON");
@@ -633,6 +605,9 @@ public class AuctionController {
             }
 
             auctionRepository.save(mainAuction);
+            auctionOrderBook.updateAuctionType(mainAuction.getId(), mainAuction.getAuctionType());
+            eventPublisher.publishEvent(new AuctionBoardEvent(AuctionBoardEvent.AUCTION_TYPE, mainAuction.getId(), null));
+            auctionExpiryScheduler.rescheduleAuction(mainAuction.getId());
 
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Error changing auction type: " + e.getMessage());
@@ -641,4 +616,45 @@ public class AuctionController {
 
         return "redirect:/auction/manage";
     }
-}
\ No newline at end of file
+
+    public static class FreeAgentPage {
+        private final List<FreeAgentSummary> players;
+        private final boolean hasMore;
+        private final String nextAfterName;
+        private final Long nextAfterId;
+
+        public FreeAgentPage(List<FreeAgentSummary> players, boolean hasMore, String nextAfterName, Long nextAfterId) {
+            this.players = players;
+            this.hasMore = hasMore;
+            this.nextAfterName = nextAfterName;
+            this.nextAfterId = nextAfterId;
+        }
+
+        public List<FreeAgentSummary> getPlayers() { return players; }
+        public boolean isHasMore() { return hasMore; }
+        public String getNextAfterName() { return nextAfterName; }
+        public Long getNextAfterId() { return nextAfterId; }
+    }
+
+    /**
+     * The fields the nomination list shows for a free agent.
+     */
+    public static class FreeAgentSummary {
+        private final Long id;
+        private final String name;
+        private final String position;
+        private final String team;
+
+        public FreeAgentSummary(Player player) {
+            this.id = player.getId();
+            this.name = player.getName();
+            this.position = player.getPosition();
+            this.team = player.getTeam();
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getPosition() { return position; }
+        public String getTeam() { return team; }
+    }
+}
@@ -0,0 +1,169 @@
+package com.fantasyia.auction;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes auction board changes to every browser connected to /auction/stream. Publishing only
+ * offers the event to each subscriber's bounded queue, and a small sender pool drains the queues,
+ * so a slow client never holds up a bid. A client whose queue fills up is disconnected and
+ * reloads the page when its EventSource reconnects.
+ */
+@Component
+public class AuctionEventBus {
+
+    private static final int QUEUE_CAPACITY = 64;
+
+    private static final int SENDER_THREADS = 4;
+
+    private static final long EMITTER_TIMEOUT_MS = Duration.ofMinutes(30).toMillis();
+
+    @Autowired
+    private AuctionOrderBook auctionOrderBook;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger senderThreadCount = new AtomicInteger();
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "auction-stream-" + senderThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    public void publish(String eventName, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .name(eventName)
+                .data(payload, MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, event);
+        }
+    }
+
+    /**
+     * Sends an SSE comment to every client so connections the browser has abandoned are noticed
+     * and released instead of lingering until their timeout.
+     */
+    public void heartbeat() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, event);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardEvent(AuctionBoardEvent event) {
+        Map<String, Object> payload = new java.util.HashMap<>();
+        payload.put("auctionItemId", event.getAuctionItemId());
+
+        if (AuctionBoardEvent.BID.equals(event.getType())) {
+            OrderBookEntry entry = auctionOrderBook.peek(event.getAuctionItemId());
+            if (entry == null) {
+                return;
+            }
+            OrderBookEntry.BidState state = entry.getState();
+            payload.put("currentBid", state.getCurrentBid());
+            payload.put("bidCount", state.getBidCount());
+            payload.put("distinctBidderCount", state.getDistinctBidderCount());
+            payload.put("hoursRemaining", Math.max(0, Duration.between(LocalDateTime.now(), state.getEndTime()).toHours()));
+        }
+
+        publish(event.getType(), payload);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    private void offer(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (!subscriber.queue.offer(event)) {
+            disconnect(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            disconnect(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        // An event offered after the last poll but before the flag was cleared still needs sending
+        if (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriber.queue.clear();
+            subscriber.emitter.complete();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
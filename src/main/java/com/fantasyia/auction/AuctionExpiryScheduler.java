@@ -0,0 +1,151 @@
+package com.fantasyia.auction;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Awards each auction item the moment its bidding window closes. Every accepted bid pushes
+ * the item's new end time here; on startup the queue is rebuilt from auction_items, and a
+ * change of auction type reschedules every active item under the new window. An award that
+ * fails after the deadline is retried with a growing delay until it succeeds or the item is
+ * no longer active.
+ */
+@Component
+public class AuctionExpiryScheduler {
+
+    @Autowired
+    @Lazy
+    private AuctionService auctionService;
+
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+
+    @Autowired
+    private MainAuctionRegistry mainAuctionRegistry;
+
+    private static final long RETRY_BASE_MINUTES = 1;
+    private static final long RETRY_MAX_MINUTES = 60;
+
+    private final DeadlineQueue deadlines = new DeadlineQueue();
+
+    // Failed award attempts per item since its deadline passed, for the retry backoff
+    private final Map<Long, Integer> failedAttempts = new ConcurrentHashMap<>();
+
+    private Thread worker;
+
+    public void schedule(Long auctionItemId, LocalDateTime endTime) {
+        if (endTime != null) {
+            deadlines.schedule(auctionItemId, endTime);
+        }
+    }
+
+    public void cancel(Long auctionItemId) {
+        deadlines.cancel(auctionItemId);
+        failedAttempts.remove(auctionItemId);
+    }
+
+    /**
+     * Call after the auction type changes, once the order book has the new type.
+     */
+    public void rescheduleAuction(Long auctionId) {
+        int rescheduled = 0;
+        for (AuctionItem item : auctionItemRepository.findByAuctionIdAndStatus(auctionId, "ACTIVE")) {
+            LocalDateTime deadline = auctionService.findAwardDeadline(item.getId());
+            if (deadline != null) {
+                schedule(item.getId(), deadline);
+                rescheduled++;
+            }
+        }
+        System.out.println("Rescheduled " + rescheduled + " auction deadlines for auction " + auctionId);
+    }
+
+    /**
+     * Deadlines are recomputed from the last bid under each auction's current type rather than
+     * read from end_time, which keeps the window that applied when the bid was placed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<AuctionItem> items = auctionItemRepository.findActiveItemsWithLastBid();
+        for (AuctionItem item : items) {
+            Auction auction = mainAuctionRegistry.get(item.getAuctionId());
+            int requiredHours = auction != null && "IN_SEASON".equals(auction.getAuctionType()) ? 24 : 72;
+            schedule(item.getId(), item.getLastBidTime().plusHours(requiredHours));
+        }
+        System.out.println("Auction expiry scheduler tracking " + deadlines.size() + " items");
+
+        worker = new Thread(this::run, "auction-expiry");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Long auctionItemId;
+            try {
+                auctionItemId = deadlines.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                AuctionService.ContractResult result = auctionService.awardPlayer(auctionItemId);
+                if (result.isSuccess()) {
+                    failedAttempts.remove(auctionItemId);
+                    System.out.println("Auto-awarded auction item " + auctionItemId + ": " + result.getMessage());
+                } else {
+                    retryAward(auctionItemId, result.getMessage());
+                }
+            } catch (Exception e) {
+                System.err.println("Error auto-awarding auction item " + auctionItemId + ": " + e.getMessage());
+                e.printStackTrace();
+                retryAward(auctionItemId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Requeues an item whose award did not go through. A later bid moves the deadline forward
+     * and the item waits for it; an item still due is retried after 1, 2, 4... minutes, up to
+     * an hour; an item that is no longer active is dropped.
+     */
+    private void retryAward(Long auctionItemId, String reason) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next;
+        try {
+            next = auctionService.findAwardDeadline(auctionItemId);
+        } catch (Exception e) {
+            // Could not tell whether the item is still open, so keep it and try again later
+            next = now;
+        }
+
+        if (next == null) {
+            failedAttempts.remove(auctionItemId);
+        } else if (next.isAfter(now)) {
+            failedAttempts.remove(auctionItemId);
+            schedule(auctionItemId, next);
+        } else {
+            int attempts = failedAttempts.merge(auctionItemId, 1, Integer::sum);
+            long delayMinutes = Math.min(RETRY_BASE_MINUTES << Math.min(attempts - 1, 6), RETRY_MAX_MINUTES);
+            System.err.println("Award of auction item " + auctionItemId + " failed (" + reason + "), retrying in "
+                    + delayMinutes + " min");
+            schedule(auctionItemId, now.plusMinutes(delayMinutes));
+        }
+    }
+}
@@ -62,6 +62,20 @@ public class AuctionItem {
     @Column
     private Double currentMinimumIncrement;
 
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    // Bid aggregates kept in step with the order book so pages never count over bids
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long bidCount;
+
+    @Column
+    private Long highestBidId;
+
+    @Column(nullable = false, columnDefinition = "integer default 0")
+    private int distinctBidderCount;
+
     public AuctionItem() {}
 
     public AuctionItem(Long playerId, Long auctionId, Double startingBid) {
@@ -152,6 +166,17 @@ public class AuctionItem {
         this.currentMinimumIncrement = currentMinimumIncrement;
     }
 
+    public long getVersion() { return version; }
+
+    public long getBidCount() { return bidCount; }
+    public void setBidCount(long bidCount) { this.bidCount = bidCount; }
+
+    public Long getHighestBidId() { return highestBidId; }
+    public void setHighestBidId(Long highestBidId) { this.highestBidId = highestBidId; }
+
+    public int getDistinctBidderCount() { return distinctBidderCount; }
+    public void setDistinctBidderCount(int distinctBidderCount) { this.distinctBidderCount = distinctBidderCount; }
+
     public Double getMinimumBidIncrement(String auctionType) {
         if (lastBidTime == null) {
             return 0.0;
@@ -1,6 +1,7 @@
 package com.fantasyia.auction;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -28,7 +29,32 @@ public interface AuctionItemRepository extends JpaRepository<AuctionItem, Long>
             "AND ai.firstBidTime IS NOT NULL")
     List<AuctionItem> findActiveItemsWithBids(@Param("auctionId") Long auctionId);
 
+    @Query("SELECT ai FROM AuctionItem ai WHERE ai.status = 'ACTIVE' AND ai.lastBidTime IS NOT NULL")
+    List<AuctionItem> findActiveItemsWithLastBid();
+
     @Query("SELECT ai FROM AuctionItem ai WHERE ai.auctionId = :auctionId AND ai.status = 'ACTIVE' " +
             "AND ai.firstBidTime IS NULL")
     List<AuctionItem> findActiveItemsWithoutBids(@Param("auctionId") Long auctionId);
-}
\ No newline at end of file
+
+    /**
+     * Writes a bid onto the item only if it still beats what is stored, so a stale or
+     * reordered write can never replace a higher bid with a lower one.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AuctionItem ai SET ai.currentBid = :amount, ai.currentBidderId = :bidderId, " +
+            "ai.firstBidTime = :firstBidTime, ai.lastBidTime = :lastBidTime, ai.endTime = :endTime, " +
+            "ai.canDeleteBid = false, ai.currentMinimumIncrement = 0.5, ai.bidCount = :bidCount, " +
+            "ai.highestBidId = :highestBidId, ai.distinctBidderCount = :distinctBidderCount, " +
+            "ai.version = ai.version + 1 " +
+            "WHERE ai.id = :id AND ai.status = 'ACTIVE' AND (ai.currentBid IS NULL OR ai.currentBid < :amount " +
+            "OR (ai.currentBid = :amount AND ai.currentBidderId = :bidderId))")
+    int applyBidIfHigher(@Param("id") Long id,
+                         @Param("amount") Double amount,
+                         @Param("bidderId") Long bidderId,
+                         @Param("firstBidTime") LocalDateTime firstBidTime,
+                         @Param("lastBidTime") LocalDateTime lastBidTime,
+                         @Param("endTime") LocalDateTime endTime,
+                         @Param("bidCount") long bidCount,
+                         @Param("highestBidId") Long highestBidId,
+                         @Param("distinctBidderCount") int distinctBidderCount);
+}
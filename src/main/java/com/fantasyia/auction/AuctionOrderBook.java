@@ -0,0 +1,152 @@
+package com.fantasyia.auction;
+
+import com.fantasyia.team.Player;
+import com.fantasyia.team.PlayerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the live bid state of every active auction item so bids can be accepted without
+ * reloading the item, auction and player on each request. Changes are written back to
+ * auction_items by {@link AuctionService#flushOrderBook()}.
+ */
+@Component
+public class AuctionOrderBook {
+
+    @Autowired
+    private AuctionItemRepository auctionItemRepository;
+
+    @Autowired
+    private MainAuctionRegistry mainAuctionRegistry;
+
+    @Autowired
+    private BidRepository bidRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    private final Map<Long, OrderBookEntry> entries = new ConcurrentHashMap<>();
+
+    private final Set<Long> dirtyItemIds = ConcurrentHashMap.newKeySet();
+
+    public OrderBookEntry getOrLoad(Long auctionItemId) {
+        OrderBookEntry entry = entries.get(auctionItemId);
+        if (entry != null) {
+            return entry;
+        }
+
+        entry = load(auctionItemId);
+        if (entry == null || !entry.isActive()) {
+            return entry;
+        }
+
+        OrderBookEntry existing = entries.putIfAbsent(auctionItemId, entry);
+        if (existing != null) {
+            return existing;
+        }
+        if (entry.getState().getWinningBidId() != null) {
+            // The entry may be ahead of the item row after replaying bids; the flush writes it back
+            markDirty(auctionItemId);
+        }
+        return entry;
+    }
+
+    public OrderBookEntry peek(Long auctionItemId) {
+        return entries.get(auctionItemId);
+    }
+
+    public void markDirty(Long auctionItemId) {
+        dirtyItemIds.add(auctionItemId);
+    }
+
+    public List<Long> drainDirty() {
+        List<Long> drained = new ArrayList<>();
+        for (Long itemId : dirtyItemIds) {
+            if (dirtyItemIds.remove(itemId)) {
+                drained.add(itemId);
+            }
+        }
+        return drained;
+    }
+
+    public void close(Long auctionItemId, String status) {
+        OrderBookEntry entry = entries.get(auctionItemId);
+        if (entry != null) {
+            entry.close(status);
+        }
+    }
+
+    public void evict(Long auctionItemId) {
+        entries.remove(auctionItemId);
+    }
+
+    public void evictClosed() {
+        entries.values().removeIf(entry -> !entry.isActive() && !dirtyItemIds.contains(entry.getItemId()));
+    }
+
+    public void updateAuctionType(Long auctionId, String auctionType) {
+        for (OrderBookEntry entry : entries.values()) {
+            if (auctionId.equals(entry.getAuctionId())) {
+                entry.setAuctionType(auctionType);
+            }
+        }
+    }
+
+    public void overlay(List<AuctionItem> items) {
+        for (AuctionItem item : items) {
+            OrderBookEntry entry = entries.get(item.getId());
+            if (entry != null) {
+                entry.applyTo(item);
+            }
+        }
+    }
+
+    private OrderBookEntry load(Long auctionItemId) {
+        AuctionItem item = auctionItemRepository.findById(auctionItemId).orElse(null);
+        if (item == null) {
+            return null;
+        }
+
+        Auction auction = mainAuctionRegistry.get(item.getAuctionId());
+        if (auction == null) {
+            return null;
+        }
+
+        Player player = playerRepository.findById(item.getPlayerId()).orElse(null);
+        String playerName = player != null ? player.getName() : "Player";
+
+        List<Long> bidderIds = bidRepository.findBidderIdsForItem(auctionItemId);
+        OrderBookEntry entry;
+        if (item.getHighestBidId() != null || item.getCurrentBid() == null) {
+            entry = new OrderBookEntry(item, auction.getAuctionType(), playerName, item.getBidCount(),
+                    item.getHighestBidId(), bidderIds);
+        } else {
+            // Rows written before the bid aggregates existed; the next flush stores them on the item
+            Bid winningBid = bidRepository.findFirstByAuctionItemIdOrderByAmountDescBidTimeAsc(auctionItemId);
+            long bidCount = winningBid != null ? bidRepository.countBidsForItem(auctionItemId) : 0;
+            entry = new OrderBookEntry(item, auction.getAuctionType(), playerName, bidCount,
+                    winningBid != null ? winningBid.getId() : null, bidderIds);
+        }
+
+        // Bids commit as they are accepted but the item row is written behind, so after a restart
+        // or an evict the row can miss the latest bids; replay them so a lower bid is never accepted
+        Long afterBidId = entry.getState().getWinningBidId() != null ? entry.getState().getWinningBidId() : 0L;
+        int replayed = 0;
+        for (Bid bid : bidRepository.findLiveBidsAfter(auctionItemId, afterBidId)) {
+            if (entry.replay(bid)) {
+                replayed++;
+            }
+        }
+        if (replayed > 0) {
+            System.out.println("Auction item " + auctionItemId + " was " + replayed +
+                    " bid(s) behind the bids table; rebuilt from bids.");
+        }
+        return entry;
+    }
+}
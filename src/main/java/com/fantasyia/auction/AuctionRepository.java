@@ -1,7 +1,10 @@
 package com.fantasyia.auction;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -16,6 +19,13 @@ public interface AuctionRepository extends JpaRepository<Auction, Long> {
         return findByCreatedBy(commissionerId);
     }
 
+    /**
+     * Served from the query cache; any write to the auctions table invalidates the cached result.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "auction-status-query")
+    })
     List<Auction> findByStatus(String status);
 
     @Query("SELECT a FROM Auction a WHERE a.status = 'ACTIVE' AND a.endTime > :currentTime")
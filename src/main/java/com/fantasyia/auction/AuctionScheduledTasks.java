@@ -11,25 +11,37 @@ public class AuctionScheduledTasks {
     @Autowired
     private AuctionService auctionService;
 
+    @Autowired
+    private ContractDeadlineScheduler contractDeadlineScheduler;
+
+    @Autowired
+    private AuctionEventBus auctionEventBus;
 
-    @Scheduled(fixedRate = 3600000)
-    public void processExpiredContracts() {
+
+    @Scheduled(fixedDelay = 1000)
+    public void flushOrderBook() {
         try {
-            auctionService.processExpiredContracts();
+            auctionService.flushOrderBook();
         } catch (Exception e) {
-            System.err.println("Error processing expired contracts: " + e.getMessage());
+            System.err.println("Error flushing auction order book: " + e.getMessage());
             e.printStackTrace();
         }
     }
 
 
-    @Scheduled(fixedRate = 1800000)
-    public void autoAwardExpiredAuctions() {
+    @Scheduled(fixedDelay = 300000, initialDelay = 300000)
+    public void sweepExpiredContracts() {
         try {
-            auctionService.autoAwardExpiredAuctions();
+            contractDeadlineScheduler.sweep();
         } catch (Exception e) {
-            System.err.println("Error auto-awarding expired auctions: " + e.getMessage());
+            System.err.println("Error processing expired contracts: " + e.getMessage());
             e.printStackTrace();
         }
     }
+
+
+    @Scheduled(fixedDelay = 30000)
+    public void streamHeartbeat() {
+        auctionEventBus.heartbeat();
+    }
 }
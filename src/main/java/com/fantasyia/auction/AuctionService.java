@@ -2,21 +2,33 @@ package com.fantasyia.auction;
 
 import com.fantasyia.team.Player;
 import com.fantasyia.team.PlayerRepository;
+import com.fantasyia.team.RosterAccountingService;
 import com.fantasyia.user.UserAccount;
 import com.fantasyia.user.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 @Service
 public class AuctionService {
 
+    private static final List<String> LIVE_BID_STATUSES = List.of("ACTIVE", "WINNING");
+
+    private static final int MAX_BID_ATTEMPTS = 10;
+
+    private final ItemLockStripes bidLocks = new ItemLockStripes(64);
+
     @Autowired
-    private AuctionRepository auctionRepository;
+    private MainAuctionRegistry mainAuctionRegistry;
 
     @Autowired
     private AuctionItemRepository auctionItemRepository;
@@ -33,6 +45,21 @@ public class AuctionService {
     @Autowired
     private PendingContractRepository pendingContractRepository;
 
+    @Autowired
+    private AuctionOrderBook auctionOrderBook;
+
+    @Autowired
+    private AuctionExpiryScheduler auctionExpiryScheduler;
+
+    @Autowired
+    private ContractDeadlineScheduler contractDeadlineScheduler;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private RosterAccountingService rosterAccountingService;
+
     public double calculateMinimumBidIncrement(AuctionItem item, String auctionType) {
         if (item.getLastBidTime() == null) {
             return 0.0;
@@ -52,21 +79,21 @@ public class AuctionService {
         return item.getCurrentBid() + calculateMinimumBidIncrement(item, auctionType);
     }
     public BidValidationResult validateBid(Long auctionItemId, Long bidderId, Double bidAmount) {
-        AuctionItem item = auctionItemRepository.findById(auctionItemId).orElse(null);
-        if (item == null) {
+        OrderBookEntry entry = auctionOrderBook.getOrLoad(auctionItemId);
+        if (entry == null) {
             return new BidValidationResult(false, "Auction item not found");
         }
 
-        if (!"ACTIVE".equals(item.getStatus())) {
-            return new BidValidationResult(false, "This auction is no longer active");
-        }
+        UserAccount user = userAccountRepository.findById(bidderId).orElse(null);
+        return validateBid(entry, entry.getState(), user, bidAmount);
+    }
 
-        Auction auction = auctionRepository.findById(item.getAuctionId()).orElse(null);
-        if (auction == null) {
-            return new BidValidationResult(false, "Auction not found");
+    private BidValidationResult validateBid(OrderBookEntry entry, OrderBookEntry.BidState state,
+                                            UserAccount user, Double bidAmount) {
+        if (!state.isActive()) {
+            return new BidValidationResult(false, "This auction is no longer active");
         }
 
-        UserAccount user = userAccountRepository.findById(bidderId).orElse(null);
         if (user == null) {
             return new BidValidationResult(false, "User not found");
         }
@@ -78,74 +105,167 @@ public class AuctionService {
                             user.getAvailableCapSpace(), user.getCurrentSalaryUsed(), bidAmount));
         }
 
-        if (!user.hasRosterSpace(item.getIsMinorLeaguer())) {
-            String rosterType = item.getIsMinorLeaguer() ? "minor league (25 max)" : "major league (40 max)";
+        if (!user.hasRosterSpace(entry.getIsMinorLeaguer())) {
+            String rosterType = entry.getIsMinorLeaguer() ? "minor league (25 max)" : "major league (40 max)";
             return new BidValidationResult(false,
                     "You have reached the " + rosterType + " roster limit. You must make room before bidding.");
         }
 
-        double minBid = getMinimumNextBid(item, auction.getAuctionType());
+        double minBid = entry.getMinimumNextBid(state);
         if (bidAmount < minBid) {
-            String playerType = item.getIsMinorLeaguer() ? "minor league" : "MLB";
+            String playerType = entry.getIsMinorLeaguer() ? "minor league" : "MLB";
 
-            if (item.getCurrentBid() == null) {
+            if (state.getCurrentBid() == null) {
                 return new BidValidationResult(false,
                         String.format("Minimum starting bid for %s players is $%.1fM", playerType, minBid));
             } else {
                 return new BidValidationResult(false,
                         String.format("Minimum bid is $%.1fM (current bid $%.1fM + $500K increment)",
-                                minBid, item.getCurrentBid()));
+                                minBid, state.getCurrentBid()));
             }
         }
 
         return new BidValidationResult(true, "Bid is valid");
     }
 
-    @Transactional
+    /**
+     * Accepts a bid against the in-memory order book. The only write on this path is the
+     * bid insert; the item row and earlier bids are brought up to date by {@link #flushOrderBook()}.
+     * Bids on the same item are serialized by a striped lock, so they are ordered in memory
+     * rather than by the database. The compare-and-set only fails against a concurrent award,
+     * in which case the bid is re-validated and either retried or marked OUTBID.
+     */
     public BidResult placeBid(Long auctionItemId, Long bidderId, Double bidAmount) {
-        BidValidationResult validation = validateBid(auctionItemId, bidderId, bidAmount);
-        if (!validation.isValid()) {
-            return new BidResult(false, validation.getMessage(), null);
+        UserAccount user = userAccountRepository.findById(bidderId).orElse(null);
+
+        Lock lock = bidLocks.lockFor(auctionItemId);
+        lock.lock();
+        try {
+            return placeBidLocked(auctionItemId, bidderId, bidAmount, user);
+        } finally {
+            lock.unlock();
         }
+    }
 
-        AuctionItem item = auctionItemRepository.findById(auctionItemId).orElse(null);
-        Auction auction = auctionRepository.findById(item.getAuctionId()).orElse(null);
-        Player player = playerRepository.findById(item.getPlayerId()).orElse(null);
+    private BidResult placeBidLocked(Long auctionItemId, Long bidderId, Double bidAmount, UserAccount user) {
+        Bid bid = null;
+
+        for (int attempt = 0; attempt < MAX_BID_ATTEMPTS; attempt++) {
+            OrderBookEntry entry = auctionOrderBook.getOrLoad(auctionItemId);
+            if (entry == null) {
+                return new BidResult(false, "Auction item not found", null);
+            }
+
+            OrderBookEntry.BidState current = entry.getState();
+            BidValidationResult validation = validateBid(entry, current, user, bidAmount);
+            if (!validation.isValid()) {
+                markOutbid(bid);
+                return new BidResult(false, validation.getMessage(), null);
+            }
+
+            if (bid == null) {
+                bid = new Bid(auctionItemId, bidderId, bidAmount);
+                bid.setStatus("WINNING");
+                bidRepository.save(bid);
+            }
+
+            OrderBookEntry.BidState next = entry.accept(current, bid);
+            if (entry.compareAndSet(current, next) && auctionOrderBook.peek(auctionItemId) == entry) {
+                entry.recordBidder(bidderId);
+                auctionOrderBook.markDirty(auctionItemId);
+                auctionExpiryScheduler.schedule(auctionItemId, next.getEndTime());
+                eventPublisher.publishEvent(new AuctionBoardEvent(AuctionBoardEvent.BID, entry.getAuctionId(), auctionItemId));
 
-        Bid bid = new Bid(auctionItemId, bidderId, bidAmount);
-        bidRepository.save(bid);
+                String message = String.format("Bid placed successfully for %s - $%.1fM. Auction ends at %s if no new bids.",
+                        entry.getPlayerName(), bidAmount, next.getEndTime().toString());
+                return new BidResult(true, message, bid);
+            }
+        }
 
-        LocalDateTime now = LocalDateTime.now();
+        markOutbid(bid);
+        return new BidResult(false, "Bidding on this player is very active right now. Please try again.", null);
+    }
 
-        if (item.getFirstBidTime() == null) {
-            item.setFirstBidTime(now);
-            item.setCanDeleteBid(false);
+    private void markOutbid(Bid bid) {
+        if (bid != null) {
+            bid.setStatus("OUTBID");
+            bidRepository.save(bid);
         }
+    }
 
-        item.setLastBidTime(now);
-        int requiredHours = "IN_SEASON".equals(auction.getAuctionType()) ? 24 : 72;
-        item.setEndTime(now.plusHours(requiredHours));
+    @Transactional
+    public void flushOrderBook() {
+        List<Long> dirtyItemIds = auctionOrderBook.drainDirty();
+        try {
+            for (Long itemId : dirtyItemIds) {
+                flushOrderBookItem(itemId);
+            }
+        } catch (RuntimeException e) {
+            dirtyItemIds.forEach(auctionOrderBook::markDirty);
+            throw e;
+        }
+        auctionOrderBook.evictClosed();
+    }
 
-        item.setCurrentBid(bidAmount);
-        item.setCurrentBidderId(bidderId);
+    private void flushOrderBookItem(Long auctionItemId) {
+        OrderBookEntry entry = auctionOrderBook.peek(auctionItemId);
+        if (entry == null) {
+            return;
+        }
 
-        item.setCurrentMinimumIncrement(calculateMinimumBidIncrement(item, auction.getAuctionType()));
+        OrderBookEntry.BidState state = entry.getState();
+        if (state.getWinningBidId() == null || state.getCurrentBid() == null) {
+            return;
+        }
 
-        auctionItemRepository.save(item);
+        int updated = auctionItemRepository.applyBidIfHigher(auctionItemId, state.getCurrentBid(),
+                state.getCurrentBidderId(), state.getFirstBidTime(), state.getLastBidTime(), state.getEndTime(),
+                state.getBidCount(), state.getWinningBidId(), state.getDistinctBidderCount());
+        if (updated == 0) {
+            System.err.println("Order book for auction item " + auctionItemId +
+                    " is behind the database; reloading on next bid.");
+            auctionOrderBook.evict(auctionItemId);
+            return;
+        }
 
-        List<Bid> previousBids = bidRepository.findByAuctionItemIdOrderByAmountDesc(auctionItemId);
-        for (Bid prevBid : previousBids) {
-            if (!prevBid.getId().equals(bid.getId())) {
-                prevBid.setStatus("OUTBID");
-                bidRepository.save(prevBid);
+        bidRepository.transitionStatusExcept(auctionItemId, state.getWinningBidId(), LIVE_BID_STATUSES, "OUTBID");
+    }
+
+    /**
+     * Loads the shared part of the auction board in its own read-only transaction so the
+     * returned items are detached, then lays the order book's live bid state over them.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public AuctionBoardSnapshot buildBoardSnapshot(Auction auction, long generation) {
+        List<AuctionItem> activeItems = auctionItemRepository.findByAuctionIdAndStatus(auction.getId(), "ACTIVE");
+        auctionOrderBook.overlay(activeItems);
+
+        Map<Long, Player> playersMap = new java.util.HashMap<>();
+        if (!activeItems.isEmpty()) {
+            List<Long> playerIds = activeItems.stream()
+                    .map(AuctionItem::getPlayerId)
+                    .collect(Collectors.toList());
+            for (Player player : playerRepository.findAllById(playerIds)) {
+                playersMap.put(player.getId(), player);
             }
+
+            activeItems = activeItems.stream()
+                    .filter(item -> playersMap.containsKey(item.getPlayerId()))
+                    .collect(Collectors.toList());
         }
-        bid.setStatus("WINNING");
-        bidRepository.save(bid);
 
-        String message = String.format("Bid placed successfully for %s - $%.1fM. Auction ends at %s if no new bids.",
-                player.getName(), bidAmount, item.getEndTime().toString());
-        return new BidResult(true, message, bid);
+        Map<Long, Bid> highestBids = new java.util.HashMap<>();
+        List<Long> highestBidIds = activeItems.stream()
+                .map(AuctionItem::getHighestBidId)
+                .filter(java.util.Objects::nonNull)
+                .collect(Collectors.toList());
+        if (!highestBidIds.isEmpty()) {
+            for (Bid bid : bidRepository.findAllById(highestBidIds)) {
+                highestBids.put(bid.getAuctionItemId(), bid);
+            }
+        }
+
+        return new AuctionBoardSnapshot(generation, auction, activeItems, playersMap, highestBids);
     }
 
     public boolean isReadyToWin(AuctionItem item, String auctionType) {
@@ -159,14 +279,74 @@ public class AuctionService {
         return hoursElapsed >= requiredHours;
     }
 
+    /**
+     * Takes an item that nobody has bid on off the board. The order book entry is closed under
+     * the item's bid lock before the removal is saved, so a bid either lands first (and the
+     * item is not removed) or sees the closed entry and is rejected. Not transactional on
+     * purpose: the save commits before the lock is released.
+     */
+    public ContractResult removeItemWithoutBids(Long auctionItemId) {
+        Long auctionId;
+        Lock lock = bidLocks.lockFor(auctionItemId);
+        lock.lock();
+        try {
+            OrderBookEntry entry = auctionOrderBook.getOrLoad(auctionItemId);
+            if (entry == null) {
+                return new ContractResult(false, "Auction item not found");
+            }
+            if (!entry.isActive()) {
+                return new ContractResult(false, "This auction is no longer active");
+            }
+            if (entry.getState().getCurrentBidderId() != null) {
+                return new ContractResult(false, "This player has received a bid and must be awarded instead");
+            }
+
+            entry.close("REMOVED");
+            try {
+                AuctionItem item = auctionItemRepository.findById(auctionItemId).orElseThrow();
+                item.setStatus("REMOVED");
+                auctionItemRepository.save(item);
+                auctionId = item.getAuctionId();
+            } catch (RuntimeException e) {
+                entry.reopen();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        auctionExpiryScheduler.cancel(auctionItemId);
+        eventPublisher.publishEvent(new AuctionBoardEvent(AuctionBoardEvent.REMOVE, auctionId, auctionItemId));
+        return new ContractResult(true, "Player removed from auction (no bids)");
+    }
+
     @Transactional
     public ContractResult awardPlayer(Long auctionItemId) {
+        OrderBookEntry entry = auctionOrderBook.peek(auctionItemId);
+        if (entry == null || !entry.isActive()) {
+            return awardItem(auctionItemId);
+        }
+
+        entry.close("AWARDING");
+        flushOrderBookItem(auctionItemId);
+        ContractResult result = awardItem(auctionItemId);
+        if (!result.isSuccess()) {
+            entry.reopen();
+        }
+        return result;
+    }
+
+    private ContractResult awardItem(Long auctionItemId) {
         AuctionItem item = auctionItemRepository.findById(auctionItemId).orElse(null);
         if (item == null) {
             return new ContractResult(false, "Auction item not found");
         }
 
-        Auction auction = auctionRepository.findById(item.getAuctionId()).orElse(null);
+        if (!"ACTIVE".equals(item.getStatus())) {
+            return new ContractResult(false, "This auction is no longer active");
+        }
+
+        Auction auction = mainAuctionRegistry.get(item.getAuctionId());
         if (auction == null) {
             return new ContractResult(false, "Auction not found");
         }
@@ -199,6 +379,7 @@ public class AuctionService {
                 item.getIsMinorLeaguer()
         );
         pendingContractRepository.save(pendingContract);
+        contractDeadlineScheduler.schedule(pendingContract.getId(), pendingContract.getContractDeadline());
 
         item.setStatus("AWAITING_CONTRACT");
         item.setContractDeadline(LocalDateTime.now().plusHours(48));
@@ -207,12 +388,36 @@ public class AuctionService {
         item.setRosterComplianceDeadline(LocalDateTime.now().plusHours(complianceHours));
 
         auctionItemRepository.save(item);
+        auctionOrderBook.close(auctionItemId, item.getStatus());
+        auctionExpiryScheduler.cancel(auctionItemId);
+        eventPublisher.publishEvent(new AuctionBoardEvent(AuctionBoardEvent.AWARD, item.getAuctionId(), auctionItemId));
 
         String message = String.format("Player %s awarded to %s for $%.1fM AAS. Contract must be posted within 48 hours or buyout fee of $%.1fM will apply.",
                 player.getName(), winner.getUsername(), item.getCurrentBid(), item.getCurrentBid() / 2.0);
         return new ContractResult(true, message);
     }
 
+    /**
+     * Returns when the item's bidding window closes under the current auction type, or null
+     * if the item is no longer waiting on one.
+     */
+    public LocalDateTime findAwardDeadline(Long auctionItemId) {
+        OrderBookEntry entry = auctionOrderBook.peek(auctionItemId);
+        if (entry != null && entry.isActive()) {
+            LocalDateTime lastBidTime = entry.getState().getLastBidTime();
+            return lastBidTime != null ? lastBidTime.plusHours(entry.getRequiredHours()) : null;
+        }
+
+        AuctionItem item = auctionItemRepository.findById(auctionItemId).orElse(null);
+        if (item == null || !"ACTIVE".equals(item.getStatus()) || item.getLastBidTime() == null) {
+            return null;
+        }
+
+        Auction auction = mainAuctionRegistry.get(item.getAuctionId());
+        int requiredHours = auction != null && "IN_SEASON".equals(auction.getAuctionType()) ? 24 : 72;
+        return item.getLastBidTime().plusHours(requiredHours);
+    }
+
     public long calculateHoursRemaining(AuctionItem item, String auctionType) {
         if (item.getLastBidTime() == null) {
             return -1;
@@ -260,7 +465,7 @@ public class AuctionService {
         }
 
         AuctionItem item = auctionItemRepository.findById(contract.getAuctionItemId()).orElse(null);
-        Auction auction = item != null ? auctionRepository.findById(item.getAuctionId()).orElse(null) : null;
+        Auction auction = item != null ? mainAuctionRegistry.get(item.getAuctionId()) : null;
 
         if (auction == null) {
             return new ContractResult(false, "Auction not found");
@@ -281,30 +486,28 @@ public class AuctionService {
             return new ContractResult(false, "User not found");
         }
 
+        // Bids are in millions; players store salary in dollars like imported rosters
+        double averageAnnualSalary = rosterAccountingService.dollarsOf(contract.getWinningBid());
         player.setOwnerId(user.getId());
         player.setContractLength(contractYears);
-        player.setContractAmount(contract.getWinningBid() * contractYears);
-        player.setAverageAnnualSalary(contract.getWinningBid());
+        player.setContractAmount(averageAnnualSalary * contractYears);
+        player.setAverageAnnualSalary(averageAnnualSalary);
         player.setContractYear(1);
         playerRepository.save(player);
 
-        user.setCurrentSalaryUsed(user.getCurrentSalaryUsed() + contract.getWinningBid());
-        if (contract.getIsMinorLeaguer()) {
-            user.setMinorLeagueRosterCount(user.getMinorLeagueRosterCount() + 1);
-        } else {
-            user.setMajorLeagueRosterCount(user.getMajorLeagueRosterCount() + 1);
-        }
-        userAccountRepository.save(user);
-
         contract.setStatus("POSTED");
         contract.setContractYears(contractYears);
         pendingContractRepository.save(contract);
+        contractDeadlineScheduler.cancel(contract.getId());
 
         if (item != null) {
             item.setStatus("SOLD");
             auctionItemRepository.save(item);
         }
 
+        rosterAccountingService.contractPosted(user.getId(), averageAnnualSalary, contract.getIsMinorLeaguer());
+        user = userAccountRepository.findById(userId).orElse(user);
+
         String rosterWarning = checkRosterLimits(user, contract.getIsMinorLeaguer(), auction.getAuctionType());
 
         String message = String.format("Contract posted for %s: %d years at $%.1fM AAS (Total: $%.1fM). %s",
@@ -315,14 +518,9 @@ public class AuctionService {
 
     @Transactional
     public void applyBuyoutFee(PendingContract contract) {
-        UserAccount winner = userAccountRepository.findById(contract.getWinnerId()).orElse(null);
-        if (winner != null) {
-            winner.setCurrentSalaryUsed(winner.getCurrentSalaryUsed() + contract.getBuyoutFee());
-            userAccountRepository.save(winner);
-        }
-
         contract.setStatus("EXPIRED");
         pendingContractRepository.save(contract);
+        contractDeadlineScheduler.cancel(contract.getId());
 
         AuctionItem item = auctionItemRepository.findById(contract.getAuctionItemId()).orElse(null);
         if (item != null) {
@@ -335,6 +533,8 @@ public class AuctionService {
             player.setOwnerId(null);
             playerRepository.save(player);
         }
+
+        rosterAccountingService.buyoutFeeApplied(contract.getWinnerId(), contract.getBuyoutFee());
     }
 
     @Transactional
@@ -354,11 +554,10 @@ public class AuctionService {
         }
 
         double buyoutFee = contract.getBuyoutFee();
-        user.setCurrentSalaryUsed(user.getCurrentSalaryUsed() + buyoutFee);
-        userAccountRepository.save(user);
 
         contract.setStatus("BOUGHT_OUT");
         pendingContractRepository.save(contract);
+        contractDeadlineScheduler.cancel(contract.getId());
 
         AuctionItem item = auctionItemRepository.findById(contract.getAuctionItemId()).orElse(null);
         if (item != null) {
@@ -368,6 +567,8 @@ public class AuctionService {
         Player player = playerRepository.findById(contract.getPlayerId()).orElse(null);
         String playerName = player != null ? player.getName() : "Player";
 
+        rosterAccountingService.buyoutFeeApplied(userId, buyoutFee);
+
         String message = String.format("%s bought out. Fee of $%.1fM applied to your cap. Player returned to free agency.",
                 playerName, buyoutFee);
         return new ContractResult(true, message);
@@ -386,32 +587,51 @@ public class AuctionService {
         return "";
     }
 
+    /**
+     * Applies buyout fees to every pending contract whose deadline is before {@code asOf} in
+     * one transaction, loading the affected items and players with one query each and adding
+     * each fee to the winner's cap with a single-row update.
+     */
     @Transactional
-    public void processExpiredContracts() {
-        List<PendingContract> expiredContracts = pendingContractRepository.findExpiredContracts(LocalDateTime.now());
+    public int processExpiredContracts(LocalDateTime asOf) {
+        List<PendingContract> expiredContracts = pendingContractRepository.findExpiredContracts(asOf);
+        if (expiredContracts.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, AuctionItem> items = auctionItemRepository.findAllById(
+                        expiredContracts.stream().map(PendingContract::getAuctionItemId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(AuctionItem::getId, item -> item));
+        Map<Long, Player> players = playerRepository.findAllById(
+                        expiredContracts.stream().map(PendingContract::getPlayerId).collect(Collectors.toSet()))
+                .stream().collect(Collectors.toMap(Player::getId, player -> player));
 
         for (PendingContract contract : expiredContracts) {
-            if ("PENDING".equals(contract.getStatus())) {
-                applyBuyoutFee(contract);
-                System.out.println("Contract expired for auction item " + contract.getAuctionItemId() +
-                        ". Buyout fee of $" + String.format("%.1fM", contract.getBuyoutFee()) + " applied.");
+            contract.setStatus("EXPIRED");
+
+            AuctionItem item = items.get(contract.getAuctionItemId());
+            if (item != null) {
+                item.setStatus("CONTRACT_EXPIRED");
             }
-        }
-    }
 
-    @Transactional
-    public void autoAwardExpiredAuctions() {
-        List<Auction> activeAuctions = auctionRepository.findByStatus("ACTIVE");
+            Player player = players.get(contract.getPlayerId());
+            if (player != null) {
+                player.setOwnerId(null);
+            }
+
+            contractDeadlineScheduler.cancel(contract.getId());
+            System.out.println("Contract expired for auction item " + contract.getAuctionItemId() +
+                    ". Buyout fee of $" + String.format("%.1fM", contract.getBuyoutFee()) + " applied.");
+        }
 
-        for (Auction auction : activeAuctions) {
-            List<AuctionItem> items = auctionItemRepository.findByAuctionIdAndStatus(auction.getId(), "ACTIVE");
+        pendingContractRepository.saveAll(expiredContracts);
+        auctionItemRepository.saveAll(items.values());
+        playerRepository.saveAll(players.values());
 
-            for (AuctionItem item : items) {
-                if (isReadyToWin(item, auction.getAuctionType()) && item.getCurrentBidderId() != null) {
-                    awardPlayer(item.getId());
-                }
-            }
+        for (PendingContract contract : expiredContracts) {
+            rosterAccountingService.buyoutFeeApplied(contract.getWinnerId(), contract.getBuyoutFee());
         }
+        return expiredContracts.size();
     }
 
     public static class BidValidationResult {
@@ -3,8 +3,14 @@ package com.fantasyia.auction;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
+/**
+ * Bid status only ever moves forward: a new bid is inserted as WINNING and the single
+ * previous leader flips to OUTBID. Rows that are already OUTBID are never rewritten.
+ */
 @Entity
-@Table(name = "bids")
+@Table(name = "bids", indexes = {
+        @Index(name = "idx_bids_item_status", columnList = "auctionItemId, status")
+})
 public class Bid {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,10 +1,12 @@
 package com.fantasyia.auction;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -16,15 +18,29 @@ public interface BidRepository extends JpaRepository<Bid, Long> {
 
     List<Bid> findByBidderIdOrderByBidTimeDesc(Long bidderId);
 
-    @Query("SELECT b FROM Bid b WHERE b.auctionItemId = :auctionItemId AND b.amount = " +
-            "(SELECT MAX(b2.amount) FROM Bid b2 WHERE b2.auctionItemId = :auctionItemId)")
-    Bid findHighestBidForItem(@Param("auctionItemId") Long auctionItemId);
+    Bid findFirstByAuctionItemIdOrderByAmountDescBidTimeAsc(Long auctionItemId);
 
     @Query("SELECT COUNT(b) FROM Bid b WHERE b.auctionItemId = :auctionItemId")
     long countBidsForItem(@Param("auctionItemId") Long auctionItemId);
 
-    @Query("SELECT b FROM Bid b WHERE b.auctionItemId = :auctionItemId AND b.bidderId = :bidderId " +
-            "ORDER BY b.bidTime DESC")
-    List<Bid> findBidsByUserForItem(@Param("auctionItemId") Long auctionItemId,
-                                    @Param("bidderId") Long bidderId);
-}
\ No newline at end of file
+    /**
+     * Bids still live after the given one, oldest first. Accepted bids are inserted before the
+     * item row is written back, so these are the bids the item may not reflect yet.
+     */
+    @Query("SELECT b FROM Bid b WHERE b.auctionItemId = :auctionItemId AND b.id > :afterBidId " +
+            "AND b.status IN ('ACTIVE', 'WINNING') ORDER BY b.id")
+    List<Bid> findLiveBidsAfter(@Param("auctionItemId") Long auctionItemId, @Param("afterBidId") Long afterBidId);
+
+    @Query("SELECT DISTINCT b.bidderId FROM Bid b WHERE b.auctionItemId = :auctionItemId")
+    List<Long> findBidderIdsForItem(@Param("auctionItemId") Long auctionItemId);
+
+    List<Bid> findByAuctionItemIdInAndBidderIdOrderByBidTimeDesc(Collection<Long> auctionItemIds, Long bidderId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Bid b SET b.status = :toStatus WHERE b.auctionItemId = :auctionItemId " +
+            "AND b.id <> :exceptBidId AND b.status IN :fromStatuses")
+    int transitionStatusExcept(@Param("auctionItemId") Long auctionItemId,
+                               @Param("exceptBidId") Long exceptBidId,
+                               @Param("fromStatuses") List<String> fromStatuses,
+                               @Param("toStatus") String toStatus);
+}
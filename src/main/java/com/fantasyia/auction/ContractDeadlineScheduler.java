@@ -0,0 +1,117 @@
+package com.fantasyia.auction;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fires contract buyouts when pending contract deadlines pass. Deadlines are pushed in as
+ * contracts are created and rebuilt from pending_contracts on startup; when one comes due,
+ * every expired contract is processed in a single batch. {@link #getLastProcessedAt()} is the
+ * watermark up to which all deadlines are known to be handled.
+ */
+@Component
+public class ContractDeadlineScheduler {
+
+    @Autowired
+    @Lazy
+    private AuctionService auctionService;
+
+    @Autowired
+    private PendingContractRepository pendingContractRepository;
+
+    private final DeadlineQueue deadlines = new DeadlineQueue();
+
+    private Thread worker;
+
+    private volatile LocalDateTime lastProcessedAt;
+
+    // Held across a database pass, so a lock rather than synchronized to keep virtual threads unpinned
+    private final ReentrantLock processLock = new ReentrantLock();
+
+    public void schedule(Long pendingContractId, LocalDateTime contractDeadline) {
+        if (pendingContractId != null && contractDeadline != null) {
+            deadlines.schedule(pendingContractId, contractDeadline);
+        }
+    }
+
+    public void cancel(Long pendingContractId) {
+        deadlines.cancel(pendingContractId);
+    }
+
+    public LocalDateTime getLastProcessedAt() {
+        return lastProcessedAt;
+    }
+
+    public void processExpired() {
+        processLock.lock();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            auctionService.processExpiredContracts(now);
+            lastProcessedAt = now;
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    /**
+     * Catches deadlines that were never pushed to this queue (for example contracts changed
+     * directly in the database) by checking only the window since the last watermark.
+     */
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        if (lastProcessedAt == null || deadlines.hasDue()
+                || pendingContractRepository.existsByStatusAndContractDeadlineBetween("PENDING", lastProcessedAt, now)) {
+            processExpired();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (PendingContract contract : pendingContractRepository.findByStatus("PENDING")) {
+            schedule(contract.getId(), contract.getContractDeadline());
+        }
+        System.out.println("Contract deadline scheduler tracking " + deadlines.size() + " pending contracts");
+
+        try {
+            processExpired();
+        } catch (Exception e) {
+            System.err.println("Error processing expired contracts on startup: " + e.getMessage());
+        }
+
+        worker = new Thread(this::run, "contract-deadlines");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                deadlines.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            try {
+                processExpired();
+            } catch (Exception e) {
+                System.err.println("Error processing expired contracts: " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+}
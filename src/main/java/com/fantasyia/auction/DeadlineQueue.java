@@ -0,0 +1,72 @@
+package com.fantasyia.auction;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocking queue of per-id deadlines. Rescheduling an id replaces its deadline; the
+ * superseded entry stays in the queue but is skipped when it comes due.
+ */
+public class DeadlineQueue {
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Map<Long, LocalDateTime> deadlines = new ConcurrentHashMap<>();
+
+    public void schedule(Long id, LocalDateTime deadline) {
+        deadlines.put(id, deadline);
+        queue.put(new Deadline(id, deadline));
+    }
+
+    public void cancel(Long id) {
+        deadlines.remove(id);
+    }
+
+    public LocalDateTime getDeadline(Long id) {
+        return deadlines.get(id);
+    }
+
+    /**
+     * Blocks until the next live deadline is due and returns its id.
+     */
+    public Long take() throws InterruptedException {
+        while (true) {
+            Deadline due = queue.take();
+            if (deadlines.remove(due.id, due.deadline)) {
+                return due.id;
+            }
+        }
+    }
+
+    public boolean hasDue() {
+        Deadline head = queue.peek();
+        return head != null && head.getDelay(TimeUnit.MILLISECONDS) <= 0;
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+
+    private static final class Deadline implements Delayed {
+        private final Long id;
+        private final LocalDateTime deadline;
+
+        private Deadline(Long id, LocalDateTime deadline) {
+            this.id = id;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Duration.between(LocalDateTime.now(), deadline).toMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return deadline.compareTo(((Deadline) other).deadline);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.fantasyia.auction;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks shared by auction items through their id hash. Bids on the same item
+ * always map to the same lock, while bids on different items almost always run in parallel.
+ */
+public class ItemLockStripes {
+    private final ReentrantLock[] locks;
+
+    public ItemLockStripes(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.locks = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public Lock lockFor(Long itemId) {
+        int hash = Long.hashCode(itemId);
+        hash ^= (hash >>> 16);
+        return locks[hash & (locks.length - 1)];
+    }
+
+    public int size() {
+        return locks.length;
+    }
+}
@@ -0,0 +1,155 @@
+package com.fantasyia.auction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves auctions by id and remembers which one is the main auction, so request handlers
+ * do not query the auctions table on every call. The main auction is the oldest ACTIVE one.
+ * Cached auctions are shared between threads and must not be modified: load a fresh copy
+ * from {@link AuctionRepository}, save it, and publish an {@link AuctionBoardEvent} so the
+ * cached copy is dropped once the change commits.
+ */
+@Component
+public class MainAuctionRegistry {
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    private final Map<Long, Auction> auctions = new ConcurrentHashMap<>();
+
+    // Serializes resolving and creating the main auction so two commissioners cannot both create one
+    private final ReentrantLock resolveLock = new ReentrantLock();
+
+    private volatile Long mainAuctionId;
+
+    /**
+     * Returns the main auction, or null if no auction is active.
+     */
+    public Auction getMainAuction() {
+        Auction cached = cachedMainAuction();
+        if (cached != null) {
+            return cached;
+        }
+
+        resolveLock.lock();
+        try {
+            cached = cachedMainAuction();
+            return cached != null ? cached : resolveMainAuction();
+        } finally {
+            resolveLock.unlock();
+        }
+    }
+
+    public Auction getOrCreateMainAuction(Long commissionerId) {
+        Auction cached = cachedMainAuction();
+        if (cached != null) {
+            return cached;
+        }
+
+        resolveLock.lock();
+        try {
+            Auction mainAuction = cachedMainAuction();
+            if (mainAuction == null) {
+                mainAuction = resolveMainAuction();
+            }
+            if (mainAuction != null) {
+                return mainAuction;
+            }
+
+            mainAuction = new Auction(
+                    "Main Player Auction",
+                    LocalDateTime.now(),
+                    LocalDateTime.now().plusYears(1),
+                    commissionerId,
+                    "In-Season Free Agency: Players require 24 hours after first bid. Dynamic minimum bid increments based on time elapsed."
+            );
+            mainAuction.setAuctionType("IN_SEASON");
+            mainAuction = auctionRepository.save(mainAuction);
+            System.out.println("Created main auction " + mainAuction.getId());
+
+            auctions.put(mainAuction.getId(), mainAuction);
+            mainAuctionId = mainAuction.getId();
+            return mainAuction;
+        } finally {
+            resolveLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the auction with the given id, active or not, or null if it does not exist.
+     */
+    public Auction get(Long auctionId) {
+        if (auctionId == null) {
+            return null;
+        }
+
+        Auction cached = auctions.get(auctionId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction != null) {
+            auctions.put(auctionId, auction);
+        }
+        return auction;
+    }
+
+    public void invalidate(Long auctionId) {
+        if (auctionId != null) {
+            auctions.remove(auctionId);
+        }
+        if (auctionId == null || auctionId.equals(mainAuctionId)) {
+            mainAuctionId = null;
+        }
+    }
+
+    /**
+     * Only type changes alter the auction row itself; other board events leave it untouched.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBoardEvent(AuctionBoardEvent event) {
+        if (AuctionBoardEvent.AUCTION_TYPE.equals(event.getType())) {
+            invalidate(event.getAuctionId());
+        }
+    }
+
+    private Auction cachedMainAuction() {
+        Long id = mainAuctionId;
+        if (id == null) {
+            return null;
+        }
+
+        Auction auction = get(id);
+        if (auction == null || !"ACTIVE".equals(auction.getStatus())) {
+            invalidate(id);
+            return null;
+        }
+        return auction;
+    }
+
+    private Auction resolveMainAuction() {
+        List<Auction> activeAuctions = auctionRepository.findByStatus("ACTIVE");
+        Auction mainAuction = activeAuctions.stream()
+                .min(Comparator.comparing(Auction::getId))
+                .orElse(null);
+        if (mainAuction == null) {
+            return null;
+        }
+
+        for (Auction auction : activeAuctions) {
+            auctions.put(auction.getId(), auction);
+        }
+        mainAuctionId = mainAuction.getId();
+        return mainAuction;
+    }
+}
@@ -0,0 +1,195 @@
+package com.fantasyia.auction;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory bid state for a single active auction item, held as an immutable {@link BidState}.
+ * Bids on the same item are serialized by the item's stripe in {@link AuctionService}'s
+ * {@link ItemLockStripes}, so bidders on one item queue behind each other while other items
+ * are unaffected. The state is still swapped with compare-and-set because some writers, such
+ * as awarding or closing the item, change it without that lock; a swap that loses to one of
+ * them re-reads the newer state and tries again.
+ */
+public class OrderBookEntry {
+    private final Long itemId;
+    private final Long auctionId;
+    private final Long playerId;
+    private final String playerName;
+    private final Boolean isMinorLeaguer;
+    private final Double startingBid;
+
+    private volatile String auctionType;
+
+    private final AtomicReference<BidState> state;
+
+    private final Set<Long> bidderIds = ConcurrentHashMap.newKeySet();
+
+    public OrderBookEntry(AuctionItem item, String auctionType, String playerName, long bidCount, Long winningBidId,
+                          Collection<Long> bidderIds) {
+        this.itemId = item.getId();
+        this.auctionId = item.getAuctionId();
+        this.playerId = item.getPlayerId();
+        this.playerName = playerName;
+        this.isMinorLeaguer = item.getIsMinorLeaguer();
+        this.startingBid = item.getStartingBid();
+        this.auctionType = auctionType;
+        this.bidderIds.addAll(bidderIds);
+        this.state = new AtomicReference<>(new BidState(item.getStatus(), item.getCurrentBid(),
+                item.getCurrentBidderId(), item.getFirstBidTime(), item.getLastBidTime(), item.getEndTime(),
+                bidCount, winningBidId, this.bidderIds.size()));
+    }
+
+    public BidState getState() {
+        return state.get();
+    }
+
+    public boolean compareAndSet(BidState expected, BidState next) {
+        return state.compareAndSet(expected, next);
+    }
+
+    /**
+     * Builds the state that accepting {@code bid} would produce. Callers hold the item's bid lock,
+     * so the bidder set only changes through {@link #recordBidder(Long)} after a successful swap.
+     */
+    public BidState accept(BidState current, Bid bid) {
+        boolean newBidder = !bidderIds.contains(bid.getBidderId());
+        return current.accept(bid, getRequiredHours(), newBidder);
+    }
+
+    public void recordBidder(Long bidderId) {
+        bidderIds.add(bidderId);
+    }
+
+    /**
+     * Re-applies an accepted bid the item row had not caught up with when this entry was loaded.
+     * Only called while loading, before the entry is visible to bidders.
+     */
+    public boolean replay(Bid bid) {
+        BidState current = state.get();
+        if (current.getCurrentBid() != null && bid.getAmount() <= current.getCurrentBid()) {
+            return false;
+        }
+        state.set(accept(current, bid));
+        recordBidder(bid.getBidderId());
+        return true;
+    }
+
+    /**
+     * Moves the entry out of ACTIVE so no further bid can be accepted, returning the final
+     * bid state that the caller is now responsible for persisting.
+     */
+    public BidState close(String status) {
+        while (true) {
+            BidState current = state.get();
+            if (state.compareAndSet(current, current.withStatus(status))) {
+                return current;
+            }
+        }
+    }
+
+    public void reopen() {
+        while (true) {
+            BidState current = state.get();
+            if (state.compareAndSet(current, current.withStatus("ACTIVE"))) {
+                return;
+            }
+        }
+    }
+
+    public int getRequiredHours() {
+        return "IN_SEASON".equals(auctionType) ? 24 : 72;
+    }
+
+    public double getMinimumNextBid(BidState bidState) {
+        if (bidState.getCurrentBid() == null) {
+            return isMinorLeaguer ? 0.1 : 0.5;
+        }
+        return bidState.getCurrentBid() + (bidState.getLastBidTime() == null ? 0.0 : 0.5);
+    }
+
+    public void applyTo(AuctionItem item) {
+        BidState current = state.get();
+        if (current.getFirstBidTime() != null && item.getFirstBidTime() == null) {
+            item.setCanDeleteBid(false);
+        }
+        item.setFirstBidTime(current.getFirstBidTime());
+        item.setLastBidTime(current.getLastBidTime());
+        item.setEndTime(current.getEndTime());
+        item.setCurrentBid(current.getCurrentBid());
+        item.setCurrentBidderId(current.getCurrentBidderId());
+        item.setCurrentMinimumIncrement(current.getLastBidTime() == null ? 0.0 : 0.5);
+        item.setBidCount(current.getBidCount());
+        item.setHighestBidId(current.getWinningBidId());
+        item.setDistinctBidderCount(current.getDistinctBidderCount());
+    }
+
+    public boolean isActive() {
+        return state.get().isActive();
+    }
+
+    public Long getItemId() { return itemId; }
+    public Long getAuctionId() { return auctionId; }
+    public Long getPlayerId() { return playerId; }
+    public String getPlayerName() { return playerName; }
+    public Boolean getIsMinorLeaguer() { return isMinorLeaguer; }
+    public Double getStartingBid() { return startingBid; }
+
+    public String getAuctionType() { return auctionType; }
+    public void setAuctionType(String auctionType) { this.auctionType = auctionType; }
+
+    public static final class BidState {
+        private final String status;
+        private final Double currentBid;
+        private final Long currentBidderId;
+        private final LocalDateTime firstBidTime;
+        private final LocalDateTime lastBidTime;
+        private final LocalDateTime endTime;
+        private final long bidCount;
+        private final Long winningBidId;
+        private final int distinctBidderCount;
+
+        public BidState(String status, Double currentBid, Long currentBidderId, LocalDateTime firstBidTime,
+                        LocalDateTime lastBidTime, LocalDateTime endTime, long bidCount, Long winningBidId,
+                        int distinctBidderCount) {
+            this.status = status;
+            this.currentBid = currentBid;
+            this.currentBidderId = currentBidderId;
+            this.firstBidTime = firstBidTime;
+            this.lastBidTime = lastBidTime;
+            this.endTime = endTime;
+            this.bidCount = bidCount;
+            this.winningBidId = winningBidId;
+            this.distinctBidderCount = distinctBidderCount;
+        }
+
+        public BidState accept(Bid bid, int requiredHours, boolean newBidder) {
+            LocalDateTime bidTime = bid.getBidTime();
+            return new BidState(status, bid.getAmount(), bid.getBidderId(),
+                    firstBidTime != null ? firstBidTime : bidTime, bidTime, bidTime.plusHours(requiredHours),
+                    bidCount + 1, bid.getId(), newBidder ? distinctBidderCount + 1 : distinctBidderCount);
+        }
+
+        public BidState withStatus(String newStatus) {
+            return new BidState(newStatus, currentBid, currentBidderId, firstBidTime, lastBidTime, endTime,
+                    bidCount, winningBidId, distinctBidderCount);
+        }
+
+        public boolean isActive() {
+            return "ACTIVE".equals(status);
+        }
+
+        public String getStatus() { return status; }
+        public Double getCurrentBid() { return currentBid; }
+        public Long getCurrentBidderId() { return currentBidderId; }
+        public LocalDateTime getFirstBidTime() { return firstBidTime; }
+        public LocalDateTime getLastBidTime() { return lastBidTime; }
+        public LocalDateTime getEndTime() { return endTime; }
+        public long getBidCount() { return bidCount; }
+        public Long getWinningBidId() { return winningBidId; }
+        public int getDistinctBidderCount() { return distinctBidderCount; }
+    }
+}
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "pending_contracts")
+@Table(name = "pending_contracts", indexes = {
+        @Index(name = "idx_pending_contracts_status_deadline", columnList = "status, contractDeadline")
+})
 public class PendingContract {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
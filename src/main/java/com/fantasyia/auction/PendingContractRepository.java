@@ -18,5 +18,7 @@ public interface PendingContractRepository extends JpaRepository<PendingContract
     @Query("SELECT p FROM PendingContract p WHERE p.status = 'PENDING' AND p.contractDeadline < :currentTime")
     List<PendingContract> findExpiredContracts(@Param("currentTime") LocalDateTime currentTime);
 
+    boolean existsByStatusAndContractDeadlineBetween(String status, LocalDateTime start, LocalDateTime end);
+
     PendingContract findByAuctionItemIdAndStatus(Long auctionItemId, String status);
 }
@@ -2,6 +2,7 @@ package com.fantasyia.config;
 
 import com.fantasyia.team.Player;
 import com.fantasyia.team.PlayerRepository;
+import com.fantasyia.team.RosterAccountingService;
 import com.fantasyia.user.UserAccount;
 import com.fantasyia.user.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,8 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DataInitializer implements CommandLineRunner {
 
@@ -21,6 +24,9 @@ public class DataInitializer implements CommandLineRunner {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private RosterAccountingService rosterAccountingService;
+
     @Override
     public void run(String... args) throws Exception {
         if (!userAccountRepository.existsByUsername("testuser")) {
@@ -50,6 +56,7 @@ public class DataInitializer implements CommandLineRunner {
             for (Player player : samplePlayers) {
                 playerRepository.save(player);
             }
+            rosterAccountingService.playersImported(testUser.getId(), List.of(samplePlayers));
             
             Player[] freeAgents = {
                 new Player("Mike Trout", "OF", "LAA", 0, 0.0, null),
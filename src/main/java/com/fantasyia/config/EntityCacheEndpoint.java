@@ -0,0 +1,59 @@
+package com.fantasyia.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hit ratios for the Hibernate second-level cache regions at /actuator/entitycache.
+ * The raw hit and miss counters are also published as hibernate.second.level.cache.requests
+ * under /actuator/metrics.
+ */
+@Component
+@Endpoint(id = "entitycache")
+public class EntityCacheEndpoint {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public Map<String, Object> cacheStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Map<String, Object> regions = new TreeMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, describe(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("secondLevelCache", describe(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount()));
+        result.put("queryCache", describe(statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        result.put("regions", regions);
+        return result;
+    }
+
+    private Map<String, Object> describe(long hits, long misses, long puts) {
+        long requests = hits + misses;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("puts", puts);
+        stats.put("hitRatio", requests > 0 ? Math.round(hits * 1000.0 / requests) / 1000.0 : 0.0);
+        return stats;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
+import com.fantasyia.user.CurrentUserCache;
 import com.fantasyia.user.UserAccount;
 import com.fantasyia.user.UserAccountRepository;
 import org.springframework.security.web.SecurityFilterChain;
@@ -19,17 +20,22 @@ public class SecurityConfig {
     @Autowired
     private UserAccountRepository userRepo;
 
+    @Autowired
+    private CurrentUserCache currentUserCache;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests((authz) -> authz
-                        .requestMatchers("/login", "/register", "/css/**", "/js/**", "/actuator/**").permitAll()
+                        .requestMatchers("/login", "/register", "/css/**", "/js/**",
+                                "/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("COMMISSIONER")
                         .requestMatchers("/auction/manage", "/auction/add-player", "/auction/remove-player/**",
                                 "/auction/add-released-player", "/auction/reject-released-player",
-                                "/auction/toggle-auction-type").hasRole("COMMISSIONER")
-                        .requestMatchers("/auction/view", "/auction/place-bid", "/auction/post-contract",
-                                "/auction/buyout-player").authenticated()
+                                "/auction/toggle-auction-type", "/commissioner/**").hasRole("COMMISSIONER")
+                        .requestMatchers("/auction/view", "/auction/stream", "/auction/place-bid",
+                                "/auction/post-contract", "/auction/buyout-player").authenticated()
                         .anyRequest().authenticated()
                 )
                 .formLogin((form) -> form
@@ -37,7 +43,14 @@ public class SecurityConfig {
                         .defaultSuccessUrl("/", true)
                         .permitAll()
                 )
-                .logout((logout) -> logout.permitAll());
+                .logout((logout) -> logout
+                        .addLogoutHandler((request, response, authentication) -> {
+                            if (authentication != null) {
+                                currentUserCache.evict(authentication.getName());
+                            }
+                        })
+                        .permitAll()
+                );
 
         return http.build();
     }
@@ -47,6 +60,7 @@ public class SecurityConfig {
         return username -> {
             UserAccount user = userRepo.findByUsername(username)
                     .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
+            currentUserCache.put(user);
 
             return User.builder()
                     .username(user.getUsername())
@@ -1,19 +1,26 @@
 package com.fantasyia.controller;
 
-import com.fantasyia.team.ReleasedPlayerRepository;
 import com.fantasyia.team.PlayerRepository;
-import com.fantasyia.team.Player;
+import com.fantasyia.team.ReleasedPlayerRepository;
+import com.fantasyia.team.RosterAccountingService;
+import com.fantasyia.team.RosterExportService;
+import com.fantasyia.user.CurrentUser;
 import com.fantasyia.user.UserAccount;
 import com.fantasyia.user.UserAccountRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Controller
 public class HomeController {
@@ -27,63 +34,78 @@ public class HomeController {
     @Autowired
     private PlayerRepository playerRepository;
 
+    @Autowired
+    private RosterAccountingService rosterAccountingService;
+
+    @Autowired
+    private RosterExportService rosterExportService;
+
     @GetMapping("/")
-    public String home(Model model) {
-
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        if (auth != null && auth.isAuthenticated() && !auth.getName().equals("anonymousUser")) {
-            String username = auth.getName();
-            UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-            model.addAttribute("currentUser", user);
-
-            if (user != null) {
-                // Update salary and roster counts before displaying
-                updateUserSalaryAndCounts(user);
-                
-                // Refresh user data after update
-                user = userAccountRepository.findById(user.getId()).orElse(user);
-                model.addAttribute("currentUser", user);
-                
-                // Show salary information for all authenticated users
-                List<UserAccount> currentUserTeam = Arrays.asList(user);
-                model.addAttribute("teams", currentUserTeam);
-
-                // Commissioner-specific features
-                if ("COMMISSIONER".equals(user.getRole())) {
-                    long pendingCount = releasedPlayerRepository.countByStatus("PENDING");
-                    model.addAttribute("pendingReleasedPlayersCount", pendingCount);
-                }
+    public String home(@CurrentUser UserAccount user, Model model) {
+        model.addAttribute("currentUser", user);
+
+        if (user != null) {
+            // Show salary information for all authenticated users
+            List<UserAccount> currentUserTeam = Arrays.asList(user);
+            model.addAttribute("teams", currentUserTeam);
+
+            // Commissioner-specific features
+            if ("COMMISSIONER".equals(user.getRole())) {
+                long pendingCount = releasedPlayerRepository.countByStatus("PENDING");
+                model.addAttribute("pendingReleasedPlayersCount", pendingCount);
             }
         }
 
         return "home";
     }
 
+    @GetMapping("/commissioner/teams")
+    public String leagueTeams(Model model) {
+        List<UserAccount> teams = userAccountRepository.findAll(Sort.by("username"));
+
+        // Every team's roster totals come from one grouped query rather than loading rosters
+        Map<Long, PlayerRepository.OwnerRosterTotals> rosterTotals = playerRepository.findRosterTotalsByOwner()
+                .stream()
+                .collect(Collectors.toMap(PlayerRepository.OwnerRosterTotals::getOwnerId, t -> t));
+
+        Map<Long, Double> rosterSalaries = new java.util.HashMap<>();
+        double leagueSalaryUsed = 0.0;
+        long leagueMajorLeagueCount = 0;
+        long leagueMinorLeagueCount = 0;
+        for (UserAccount team : teams) {
+            PlayerRepository.OwnerRosterTotals totals = rosterTotals.get(team.getId());
+            rosterSalaries.put(team.getId(), totals != null ? rosterAccountingService.salaryOf(totals.getTotalSalary()) : 0.0);
+            leagueSalaryUsed += team.getCurrentSalaryUsed();
+            if (totals != null) {
+                leagueMajorLeagueCount += totals.getMajorLeagueCount();
+                leagueMinorLeagueCount += totals.getMinorLeagueCount();
+            }
+        }
+
+        model.addAttribute("teams", teams);
+        model.addAttribute("rosterTotals", rosterTotals);
+        model.addAttribute("rosterSalaries", rosterSalaries);
+        model.addAttribute("leagueSalaryUsed", leagueSalaryUsed);
+        model.addAttribute("leagueMajorLeagueCount", leagueMajorLeagueCount);
+        model.addAttribute("leagueMinorLeagueCount", leagueMinorLeagueCount);
+        return "league-teams";
+    }
+
+    /**
+     * Every team's roster in one workbook, streamed to the response page by page.
+     */
+    @GetMapping("/commissioner/export")
+    public ResponseEntity<StreamingResponseBody> exportLeagueRosters() {
+        String filename = "league_rosters_" + LocalDate.now() + ".xlsx";
+
+        return ResponseEntity.ok()
+                             .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                             .contentType(RosterExportService.XLSX_MEDIA_TYPE)
+                             .body(rosterExportService::writeLeague);
+    }
+
     @GetMapping("/login")
     public String login() {
         return "login";
     }
-    
-    private void updateUserSalaryAndCounts(UserAccount user) {
-        List<Player> userPlayers = playerRepository.findByOwnerId(user.getId());
-        
-        double totalSalary = userPlayers.stream()
-            .filter(p -> p.getAverageAnnualSalary() != null)
-            .mapToDouble(Player::getAverageAnnualSalary)
-            .sum();
-            
-        int majorLeagueCount = (int) userPlayers.stream()
-            .filter(p -> p.getIsMinorLeaguer() != null && !p.getIsMinorLeaguer())
-            .count();
-            
-        int minorLeagueCount = (int) userPlayers.stream()
-            .filter(p -> p.getIsMinorLeaguer() != null && p.getIsMinorLeaguer())
-            .count();
-        
-        user.setCurrentSalaryUsed(totalSalary / 1000000.0); // Convert to millions
-        user.setMajorLeagueRosterCount(majorLeagueCount);
-        user.setMinorLeagueRosterCount(minorLeagueCount);
-        
-        userAccountRepository.save(user);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,147 @@
+package com.fantasyia.team;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads RFC 4180 CSV one record at a time, so an upload never has to be held in memory.
+ * Quoted fields may contain commas, doubled quotes and line breaks; records may end in
+ * CRLF or LF. Only the current record is buffered, and a single field is capped at
+ * {@link #MAX_FIELD_LENGTH} characters so a missing closing quote cannot swallow the file.
+ * After a {@link CsvFormatException} reading resumes at the next line.
+ */
+public class CsvReader implements Closeable {
+
+    static final int MAX_FIELD_LENGTH = 64 * 1024;
+
+    private final BufferedReader reader;
+    private final StringBuilder field = new StringBuilder();
+    private long lineNumber = 1;
+    private long recordLineNumber;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the next record's fields, or null at end of input. Blank lines are skipped.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = reader.read();
+        while (c == '\r' || c == '\n') {
+            consumeLineBreak(c);
+            c = reader.read();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean afterQuotedField = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new CsvFormatException(recordLineNumber, "unterminated quoted field");
+                }
+                if (c == '"') {
+                    int next = reader.read();
+                    if (next == '"') {
+                        append('"');
+                    } else {
+                        quoted = false;
+                        afterQuotedField = true;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') {
+                        lineNumber++;
+                    }
+                    append((char) c);
+                }
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                afterQuotedField = false;
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                fields.add(field.toString());
+                if (c != -1) {
+                    consumeLineBreak(c);
+                }
+                return fields;
+            } else if (afterQuotedField) {
+                throw malformed("unexpected character after closing quote");
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else {
+                append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * Line on which the last record returned by {@link #readRecord()} started.
+     */
+    public long getRecordLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void append(char c) throws IOException {
+        if (field.length() >= MAX_FIELD_LENGTH) {
+            throw malformed("field longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        field.append(c);
+    }
+
+    /**
+     * Consumes the rest of a CR, LF or CRLF line break whose first character was c.
+     */
+    private void consumeLineBreak(int c) throws IOException {
+        lineNumber++;
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+    }
+
+    /**
+     * Skips to the next line so the caller can report the bad record and keep reading.
+     */
+    private CsvFormatException malformed(String message) throws IOException {
+        int c = reader.read();
+        while (c != -1 && c != '\r' && c != '\n') {
+            c = reader.read();
+        }
+        if (c != -1) {
+            consumeLineBreak(c);
+        }
+        return new CsvFormatException(recordLineNumber, message);
+    }
+
+    public static class CsvFormatException extends IOException {
+        private final long lineNumber;
+
+        public CsvFormatException(long lineNumber, String message) {
+            super("Line " + lineNumber + ": " + message);
+            this.lineNumber = lineNumber;
+        }
+
+        public long getLineNumber() { return lineNumber; }
+    }
+}
@@ -0,0 +1,219 @@
+package com.fantasyia.team;
+
+import org.apache.poi.hssf.eventusermodel.HSSFEventFactory;
+import org.apache.poi.hssf.eventusermodel.HSSFListener;
+import org.apache.poi.hssf.eventusermodel.HSSFRequest;
+import org.apache.poi.hssf.eventusermodel.MissingRecordAwareHSSFListener;
+import org.apache.poi.hssf.eventusermodel.dummyrecord.LastCellOfRowDummyRecord;
+import org.apache.poi.hssf.record.BOFRecord;
+import org.apache.poi.hssf.record.BoolErrRecord;
+import org.apache.poi.hssf.record.CellValueRecordInterface;
+import org.apache.poi.hssf.record.FormulaRecord;
+import org.apache.poi.hssf.record.LabelRecord;
+import org.apache.poi.hssf.record.LabelSSTRecord;
+import org.apache.poi.hssf.record.NumberRecord;
+import org.apache.poi.hssf.record.Record;
+import org.apache.poi.hssf.record.SSTRecord;
+import org.apache.poi.hssf.record.StringRecord;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.POIFSFileSystem;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams the rows of a spreadsheet's first sheet without building the workbook in memory:
+ * .xlsx through the XSSF SAX event API and .xls through the HSSF record event model. Only
+ * the current row and the workbook's shared string table are held in memory. Numbers are
+ * passed on unformatted ("35000000", not "$35,000,000.00") and formulas as their cached result.
+ */
+public class ExcelRowReader {
+
+    public interface RowHandler {
+        /**
+         * Called once per row in sheet order; rowNumber is 1-based as shown in Excel.
+         */
+        void handleRow(int rowNumber, List<String> cells);
+    }
+
+    private ExcelRowReader() {}
+
+    /**
+     * Reads from a file because both formats can then be opened lazily, whereas opening them
+     * from a stream buffers the whole file. The filename only decides between .xls and .xlsx.
+     */
+    public static void readFirstSheet(Path file, String filename, RowHandler handler) throws IOException {
+        if (isXls(filename)) {
+            readXls(file.toFile(), handler);
+        } else {
+            readXlsx(file.toFile(), handler);
+        }
+    }
+
+    private static boolean isXls(String filename) {
+        return filename.toLowerCase().endsWith(".xls");
+    }
+
+    private static void readXlsx(File file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg);
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null, strings,
+                        new XlsxRowCollector(handler), new RawNumberFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Could not read spreadsheet: " + e.getMessage(), e);
+        }
+    }
+
+    private static void readXls(File file, RowHandler handler) throws IOException {
+        try (POIFSFileSystem fs = new POIFSFileSystem(file, true)) {
+            HSSFRequest request = new HSSFRequest();
+            request.addListenerForAllRecords(new MissingRecordAwareHSSFListener(new XlsRowCollector(handler)));
+            new HSSFEventFactory().processWorkbookEvents(request, fs);
+        }
+    }
+
+    private static void setCell(List<String> cells, int column, String value) {
+        while (cells.size() <= column) {
+            cells.add("");
+        }
+        cells.set(column, value != null ? value : "");
+    }
+
+    private static class XlsxRowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+
+        private XlsxRowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            handler.handleRow(rowNum + 1, new ArrayList<>(cells));
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            if (cellReference != null) {
+                setCell(cells, new CellReference(cellReference).getCol(), formattedValue);
+            }
+        }
+    }
+
+    /**
+     * Collects cell records for the first worksheet and hands each row over when
+     * MissingRecordAwareHSSFListener signals its last cell.
+     */
+    private static class XlsRowCollector implements HSSFListener {
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+        private SSTRecord sharedStrings;
+        private int worksheetIndex = -1;
+        private int pendingFormulaColumn = -1;
+
+        private XlsRowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void processRecord(Record record) {
+            if (record instanceof BOFRecord && ((BOFRecord) record).getType() == BOFRecord.TYPE_WORKSHEET) {
+                worksheetIndex++;
+                return;
+            }
+            if (record instanceof SSTRecord) {
+                sharedStrings = (SSTRecord) record;
+                return;
+            }
+            if (worksheetIndex != 0) {
+                return;
+            }
+
+            if (record instanceof LastCellOfRowDummyRecord) {
+                handler.handleRow(((LastCellOfRowDummyRecord) record).getRow() + 1, new ArrayList<>(cells));
+                cells.clear();
+            } else if (record instanceof StringRecord) {
+                // The cached text of the string formula that came just before
+                if (pendingFormulaColumn >= 0) {
+                    setCell(cells, pendingFormulaColumn, ((StringRecord) record).getString());
+                    pendingFormulaColumn = -1;
+                }
+            } else if (record instanceof CellValueRecordInterface) {
+                CellValueRecordInterface cell = (CellValueRecordInterface) record;
+                setCell(cells, cell.getColumn(), cellValue(record));
+            }
+        }
+
+        private String cellValue(Record record) {
+            if (record instanceof LabelSSTRecord) {
+                return sharedStrings.getString(((LabelSSTRecord) record).getSSTIndex()).getString();
+            }
+            if (record instanceof LabelRecord) {
+                return ((LabelRecord) record).getValue();
+            }
+            if (record instanceof NumberRecord) {
+                return NumberToTextConverter.toText(((NumberRecord) record).getValue());
+            }
+            if (record instanceof FormulaRecord) {
+                FormulaRecord formula = (FormulaRecord) record;
+                if (formula.getCachedResultTypeEnum() == CellType.STRING) {
+                    pendingFormulaColumn = formula.getColumn();
+                    return "";
+                }
+                return formula.getCachedResultTypeEnum() == CellType.NUMERIC
+                        ? NumberToTextConverter.toText(formula.getValue())
+                        : "";
+            }
+            if (record instanceof BoolErrRecord && ((BoolErrRecord) record).isBoolean()) {
+                return String.valueOf(((BoolErrRecord) record).getBooleanValue());
+            }
+            return "";
+        }
+    }
+
+    /**
+     * Ignores number formats so currency or thousands-separated amounts still parse.
+     */
+    private static class RawNumberFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            return NumberToTextConverter.toText(value);
+        }
+    }
+}
@@ -1,12 +1,21 @@
 package com.fantasyia.team;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.text.Normalizer;
+import java.util.Locale;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "player")
 @Table(name = "players")
 public class Player {
+    // Sequence ids (allocated 50 at a time) let Hibernate batch inserts; IDENTITY disables batching
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "players_id_seq")
+    @SequenceGenerator(name = "players_id_seq", sequenceName = "players_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -48,6 +57,10 @@ public class Player {
     @Column
     private Integer contractYear;
 
+    // Lowercased, accent-free copy of name for duplicate checks and fuzzy search; see normalizeName
+    @Column(name = "normalized_name")
+    private String normalizedName;
+
     public Player() {}
 
     public Player(String name, String position, String team, Integer contractLength, Double contractAmount, Long ownerId) {
@@ -68,6 +81,25 @@ public class Player {
     public String getName() { return name; }
     public void setName(String name) { this.name = name; }
 
+    public String getNormalizedName() { return normalizedName; }
+
+    @PrePersist
+    @PreUpdate
+    public void refreshNormalizedName() {
+        this.normalizedName = normalizeName(name);
+    }
+
+    /**
+     * "  Ronald Acuña Jr. " becomes "ronald acuna jr.": accents stripped, lowercased, whitespace collapsed.
+     */
+    public static String normalizeName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String stripped = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return stripped.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
     public String getPosition() { return position; }
     public void setPosition(String position) { this.position = position; }
 
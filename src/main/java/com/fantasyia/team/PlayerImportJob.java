@@ -0,0 +1,70 @@
+package com.fantasyia.team;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One uploaded file queued for import. The status moves from QUEUED to RUNNING to COMPLETED
+ * or FAILED; the counters update while the job runs, so the status endpoint can show progress.
+ */
+public class PlayerImportJob {
+    public static final String QUEUED = "QUEUED";
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private final String id;
+    private final Long ownerId;
+    private final String filename;
+    private final String extension;
+    private final LocalDateTime submittedAt = LocalDateTime.now();
+    private final PlayerImportService.ImportSummary summary = new PlayerImportService.ImportSummary();
+    private volatile String status = QUEUED;
+    private volatile String message;
+    private volatile LocalDateTime finishedAt;
+
+    public PlayerImportJob(String id, Long ownerId, String filename, String extension) {
+        this.id = id;
+        this.ownerId = ownerId;
+        this.filename = filename;
+        this.extension = extension;
+    }
+
+    public String getId() { return id; }
+    public Long getOwnerId() { return ownerId; }
+    public String getFilename() { return filename; }
+    public String getExtension() { return extension; }
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getStatus() { return status; }
+    public String getMessage() { return message; }
+
+    public int getRowsProcessed() { return summary.getRowsProcessed(); }
+    public int getImported() { return summary.getImportedCount(); }
+    public int getSkipped() { return summary.getSkippedCount(); }
+    public int getFailed() { return summary.getErrorCount(); }
+    public List<String> getErrors() { return summary.getErrors(); }
+
+    public boolean isFinished() {
+        return COMPLETED.equals(status) || FAILED.equals(status);
+    }
+
+    PlayerImportService.ImportSummary summary() {
+        return summary;
+    }
+
+    void start() {
+        status = RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        finishedAt = LocalDateTime.now();
+        status = FAILED;
+    }
+}
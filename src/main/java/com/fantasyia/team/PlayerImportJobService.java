@@ -0,0 +1,134 @@
+package com.fantasyia.team;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs player imports in the background so an upload returns straight away with a job id.
+ * A small fixed pool does the work and a bounded queue holds waiting jobs; when both are
+ * full new uploads are turned away rather than piling up. Jobs are kept in memory and
+ * forgotten a day after they finish.
+ */
+@Service
+public class PlayerImportJobService {
+
+    private static final int WORKER_THREADS = 2;
+    private static final int MAX_QUEUED_JOBS = 20;
+    private static final long JOB_RETENTION_HOURS = 24;
+
+    @Autowired
+    private PlayerImportService playerImportService;
+
+    private final Map<String, PlayerImportJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicInteger workerThreadCount = new AtomicInteger();
+
+    private final ThreadPoolExecutor workers = new ThreadPoolExecutor(WORKER_THREADS, WORKER_THREADS,
+            0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(MAX_QUEUED_JOBS), runnable -> {
+        Thread thread = new Thread(runnable, "player-import-" + workerThreadCount.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Copies the upload to a temp file, since the request's copy is deleted once the request
+     * ends, and queues it. Throws IllegalArgumentException for an unsupported file type and
+     * IllegalStateException when the queue is full.
+     */
+    public PlayerImportJob submit(MultipartFile file, Long ownerId) throws IOException {
+        String filename = file.getOriginalFilename();
+        String extension = supportedExtension(filename);
+        if (extension == null) {
+            throw new IllegalArgumentException("Only CSV and Excel files are supported");
+        }
+        // The client's filename is only kept for display; the temp file gets a fixed suffix
+        Path upload = Files.createTempFile("player-import-", extension);
+        file.transferTo(upload);
+
+        PlayerImportJob job = new PlayerImportJob(UUID.randomUUID().toString(), ownerId, filename, extension);
+        jobs.put(job.getId(), job);
+        try {
+            workers.execute(() -> run(job, upload));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            Files.deleteIfExists(upload);
+            throw new IllegalStateException("Too many imports are running right now. Please try again in a few minutes.");
+        }
+
+        System.out.println("Queued player import " + job.getId() + " (" + filename + ") for owner " + ownerId);
+        return job;
+    }
+
+    /**
+     * Returns ".csv", ".xlsx" or ".xls" for a supported upload, or null.
+     */
+    public static String supportedExtension(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        String lowerName = filename.toLowerCase();
+        for (String extension : new String[]{".csv", ".xlsx", ".xls"}) {
+            if (lowerName.endsWith(extension)) {
+                return extension;
+            }
+        }
+        return null;
+    }
+
+    public PlayerImportJob getJob(String jobId) {
+        return jobs.get(jobId);
+    }
+
+    @Scheduled(fixedDelay = 3600000)
+    public void purgeFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    private void run(PlayerImportJob job, Path upload) {
+        job.start();
+        try {
+            // Branch on the extension checked at submit, not on the client's filename
+            if (".csv".equals(job.getExtension())) {
+                try (InputStream inputStream = Files.newInputStream(upload)) {
+                    playerImportService.importCsv(inputStream, job.getOwnerId(), job.summary());
+                }
+            } else {
+                playerImportService.importSpreadsheet(upload, job.getExtension(), job.getOwnerId(), job.summary());
+            }
+            job.complete();
+        } catch (Exception e) {
+            System.err.println("Player import " + job.getId() + " failed: " + e.getMessage());
+            e.printStackTrace();
+            job.fail(e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(upload);
+            } catch (IOException e) {
+                System.err.println("Could not delete import upload " + upload + ": " + e.getMessage());
+            }
+        }
+    }
+}
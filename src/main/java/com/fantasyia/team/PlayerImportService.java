@@ -0,0 +1,265 @@
+package com.fantasyia.team;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+/**
+ * Imports players onto an owner's roster in batches. Each batch costs one duplicate-check
+ * query over its normalized names and one batched insert, and commits on its own so a large
+ * file never holds one long transaction. The cap totals are updated once at the end, also
+ * when the import stops early, for whatever was committed.
+ */
+@Service
+public class PlayerImportService {
+
+    static final int IMPORT_BATCH_SIZE = 500;
+
+    // Name, position, MLB team, contract length, contract amount
+    private static final int PLAYER_COLUMNS = 5;
+
+    // Name, position and team are varchar(255) columns
+    private static final int MAX_TEXT_LENGTH = 255;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private RosterAccountingService rosterAccountingService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Streams a CSV upload (header row, then name, position, MLB team, contract length and
+     * contract amount) through {@link CsvReader}. Progress and bad rows are recorded in the
+     * given summary as the import runs.
+     */
+    public void importCsv(InputStream inputStream, Long ownerId, ImportSummary summary) throws IOException {
+        ImportBatcher batcher = new ImportBatcher(ownerId, "Line", summary);
+
+        try (CsvReader csv = new CsvReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            boolean headerRow = true;
+            while (true) {
+                // The first record is the header whether or not it parses
+                boolean isHeader = headerRow;
+                headerRow = false;
+
+                List<String> record;
+                try {
+                    record = csv.readRecord();
+                } catch (CsvReader.CsvFormatException e) {
+                    summary.rowsProcessed++;
+                    summary.addError(e.getMessage());
+                    continue;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (isHeader) {
+                    continue;
+                }
+                batcher.add(record, csv.getRecordLineNumber());
+            }
+            batcher.flush();
+        } finally {
+            batcher.finish();
+        }
+    }
+
+    /**
+     * Streams the first sheet of an .xlsx or .xls upload, in the same column layout as the CSV
+     * import, through {@link ExcelRowReader}. The first row is the header.
+     */
+    public void importSpreadsheet(Path file, String filename, Long ownerId, ImportSummary summary) throws IOException {
+        ImportBatcher batcher = new ImportBatcher(ownerId, "Row", summary);
+        try {
+            ExcelRowReader.readFirstSheet(file, filename, (rowNumber, cells) -> {
+                if (rowNumber > 1) {
+                    // Spreadsheets omit trailing empty cells, which the CSV layout would include
+                    while (cells.size() < PLAYER_COLUMNS) {
+                        cells.add("");
+                    }
+                    batcher.add(cells, rowNumber);
+                }
+            });
+            batcher.flush();
+        } finally {
+            batcher.finish();
+        }
+    }
+
+    private Player toPlayer(List<String> record, Long ownerId) {
+        if (record.size() < PLAYER_COLUMNS) {
+            throw new IllegalArgumentException("expected " + PLAYER_COLUMNS + " columns but found " + record.size());
+        }
+
+        String name = record.get(0).trim();
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("player name is missing");
+        }
+
+        Player player = new Player();
+        player.setName(checkLength("player name", name));
+        player.setPosition(checkLength("position", record.get(1).trim()));
+        player.setTeam(checkLength("MLB team", record.get(2).trim()));
+
+        String contractLength = record.get(3).trim();
+        try {
+            player.setContractLength(contractLength.isEmpty() ? 1 : Integer.parseInt(contractLength));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("contract length '" + contractLength + "' is not a whole number");
+        }
+        if (player.getContractLength() < 1) {
+            throw new IllegalArgumentException("contract length must be at least 1 year");
+        }
+
+        String contractAmount = record.get(4).trim();
+        try {
+            player.setContractAmount(contractAmount.isEmpty() ? 0.0 : Double.parseDouble(contractAmount));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("contract amount '" + contractAmount + "' is not a number");
+        }
+        player.setAverageAnnualSalary(player.getContractAmount() / player.getContractLength());
+
+        player.setOwnerId(ownerId);
+        player.setIsMinorLeaguer(false);
+        player.setIsRookie(false);
+        return player;
+    }
+
+    private static String checkLength(String field, String value) {
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(field + " is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    /**
+     * Skips names the owner already has, including repeats within the file: earlier batches
+     * are committed before the next duplicate check runs, so the query sees them.
+     */
+    private void importBatch(List<Player> batch, Long ownerId, ImportSummary summary) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // The summary only counts a batch once it has committed, so a rolled-back batch adds nothing
+        List<Player> newPlayers = transactionTemplate.execute(status -> saveNewPlayers(batch, ownerId));
+
+        summary.skippedCount += batch.size() - newPlayers.size();
+        summary.importedCount += newPlayers.size();
+        for (Player player : newPlayers) {
+            if (player.getAverageAnnualSalary() != null) {
+                summary.importedAverageAnnualSalary += player.getAverageAnnualSalary();
+            }
+        }
+    }
+
+    private List<Player> saveNewPlayers(List<Player> batch, Long ownerId) {
+        Set<String> normalizedNames = batch.stream()
+                .map(player -> Player.normalizeName(player.getName()))
+                .collect(Collectors.toSet());
+        Set<String> rosteredNames = new HashSet<>(playerRepository.findRosteredNormalizedNames(ownerId, normalizedNames));
+
+        List<Player> newPlayers = new ArrayList<>();
+        for (Player player : batch) {
+            if (rosteredNames.add(Player.normalizeName(player.getName()))) {
+                newPlayers.add(player);
+            }
+        }
+
+        playerRepository.saveAll(newPlayers);
+        return newPlayers;
+    }
+
+    /**
+     * Turns rows into players and imports them {@link #IMPORT_BATCH_SIZE} at a time, so the
+     * source can be read as a stream. Rows with no values at all are ignored.
+     */
+    private class ImportBatcher {
+        private final Long ownerId;
+        private final String rowLabel;
+        private final ImportSummary summary;
+        private final List<Player> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+
+        private ImportBatcher(Long ownerId, String rowLabel, ImportSummary summary) {
+            this.ownerId = ownerId;
+            this.rowLabel = rowLabel;
+            this.summary = summary;
+        }
+
+        void add(List<String> row, long rowNumber) {
+            if (row.stream().allMatch(value -> value == null || value.isBlank())) {
+                return;
+            }
+            summary.rowsProcessed++;
+
+            try {
+                batch.add(toPlayer(row, ownerId));
+            } catch (IllegalArgumentException e) {
+                summary.addError(rowLabel + " " + rowNumber + ": " + e.getMessage());
+            }
+
+            if (batch.size() >= IMPORT_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            importBatch(batch, ownerId, summary);
+            batch.clear();
+        }
+
+        /**
+         * Runs whether or not the import completed, so committed batches always reach the cap.
+         */
+        void finish() {
+            if (summary.importedCount > 0) {
+                rosterAccountingService.playersImported(ownerId, summary.importedAverageAnnualSalary);
+            }
+            System.out.println("Player import for owner " + ownerId + ": " + summary.importedCount + " imported, " +
+                    summary.skippedCount + " duplicates skipped, " + summary.errorCount + " rows rejected");
+        }
+    }
+
+    /**
+     * Running totals for one import; only the first {@link #MAX_REPORTED_ERRORS} row errors are kept.
+     * Written by the importing thread and safe to read from others while the import runs.
+     */
+    public static class ImportSummary {
+        private static final int MAX_REPORTED_ERRORS = 20;
+
+        private volatile int rowsProcessed;
+        private volatile int importedCount;
+        private volatile int skippedCount;
+        private volatile int errorCount;
+        private double importedAverageAnnualSalary;
+        private final List<String> errors = new CopyOnWriteArrayList<>();
+
+        void addError(String error) {
+            errorCount++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(error);
+            }
+        }
+
+        public int getRowsProcessed() { return rowsProcessed; }
+        public int getImportedCount() { return importedCount; }
+        public int getSkippedCount() { return skippedCount; }
+        public int getErrorCount() { return errorCount; }
+        public List<String> getErrors() { return errors; }
+    }
+}
@@ -1,13 +1,20 @@
 package com.fantasyia.team;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
@@ -18,8 +25,77 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
 
     List<Player> findByOwnerIdIsNull();
 
+    /**
+     * Next page of every rostered player, ordered by owner then id, after the (ownerId, id)
+     * cursor. Used by the league export, which reads the table a page at a time; the pages
+     * bypass the second-level cache so a full dump does not evict the hot entries.
+     */
+    @Query("SELECT p FROM Player p WHERE p.ownerId IS NOT NULL " +
+            "AND (p.ownerId, p.id) > (:afterOwnerId, :afterId) " +
+            "ORDER BY p.ownerId, p.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    List<Player> findRosteredPlayersAfter(@Param("afterOwnerId") Long afterOwnerId,
+                                          @Param("afterId") Long afterId,
+                                          Pageable pageable);
+
     List<Player> findByContractLengthIsNullAndContractAmountIsNull();
 
+    /**
+     * Free agents that are not currently up for auction, as an anti-join against active
+     * auction items. Backed by the partial indexes in free_agent_indexes.sql.
+     */
+    @Query(value = "SELECT p FROM Player p WHERE p.ownerId IS NULL " +
+            "AND (:position IS NULL OR p.position = :position) " +
+            "AND NOT EXISTS (SELECT 1 FROM AuctionItem ai WHERE ai.playerId = p.id AND ai.status = 'ACTIVE')",
+            countQuery = "SELECT COUNT(p) FROM Player p WHERE p.ownerId IS NULL " +
+                    "AND (:position IS NULL OR p.position = :position) " +
+                    "AND NOT EXISTS (SELECT 1 FROM AuctionItem ai WHERE ai.playerId = p.id AND ai.status = 'ACTIVE')")
+    Page<Player> findFreeAgentsNotInAuction(@Param("position") String position, Pageable pageable);
+
+    /**
+     * First page of the keyset-paginated free-agent listing, ordered by name then id.
+     */
+    @Query("SELECT p FROM Player p WHERE p.ownerId IS NULL " +
+            "AND (:position IS NULL OR p.position = :position) " +
+            "AND (:team IS NULL OR p.team = :team) " +
+            "AND (:minorLeaguer IS NULL OR COALESCE(p.isMinorLeaguer, false) = :minorLeaguer) " +
+            "AND NOT EXISTS (SELECT 1 FROM AuctionItem ai WHERE ai.playerId = p.id AND ai.status = 'ACTIVE') " +
+            "ORDER BY p.name, p.id")
+    List<Player> findFreeAgentsFirstPage(@Param("position") String position,
+                                         @Param("team") String team,
+                                         @Param("minorLeaguer") Boolean minorLeaguer,
+                                         Pageable pageable);
+
+    /**
+     * Next page after the (name, id) cursor. The row comparison lets PostgreSQL start the
+     * index scan at the cursor, so deep pages cost the same as the first.
+     */
+    @Query("SELECT p FROM Player p WHERE p.ownerId IS NULL " +
+            "AND (p.name, p.id) > (:afterName, :afterId) " +
+            "AND (:position IS NULL OR p.position = :position) " +
+            "AND (:team IS NULL OR p.team = :team) " +
+            "AND (:minorLeaguer IS NULL OR COALESCE(p.isMinorLeaguer, false) = :minorLeaguer) " +
+            "AND NOT EXISTS (SELECT 1 FROM AuctionItem ai WHERE ai.playerId = p.id AND ai.status = 'ACTIVE') " +
+            "ORDER BY p.name, p.id")
+    List<Player> findFreeAgentsAfter(@Param("afterName") String afterName,
+                                     @Param("afterId") Long afterId,
+                                     @Param("position") String position,
+                                     @Param("team") String team,
+                                     @Param("minorLeaguer") Boolean minorLeaguer,
+                                     Pageable pageable);
+
+    @Query("SELECT p.ownerId AS ownerId, COALESCE(SUM(p.averageAnnualSalary), 0.0) AS totalSalary, " +
+            "COUNT(p) FILTER (WHERE COALESCE(p.isMinorLeaguer, false) = false) AS majorLeagueCount, " +
+            "COUNT(p) FILTER (WHERE p.isMinorLeaguer = true) AS minorLeagueCount " +
+            "FROM Player p WHERE p.ownerId = :ownerId GROUP BY p.ownerId")
+    Optional<OwnerRosterTotals> findRosterTotalsForOwner(@Param("ownerId") Long ownerId);
+
+    @Query("SELECT p.ownerId AS ownerId, COALESCE(SUM(p.averageAnnualSalary), 0.0) AS totalSalary, " +
+            "COUNT(p) FILTER (WHERE COALESCE(p.isMinorLeaguer, false) = false) AS majorLeagueCount, " +
+            "COUNT(p) FILTER (WHERE p.isMinorLeaguer = true) AS minorLeagueCount " +
+            "FROM Player p WHERE p.ownerId IS NOT NULL GROUP BY p.ownerId")
+    List<OwnerRosterTotals> findRosterTotalsByOwner();
+
     @Query("SELECT p FROM Player p WHERE p.ownerId = :ownerId " +
             "AND (:position IS NULL OR :position = '' OR p.position = :position) " +
             "AND (:minContract IS NULL OR p.contractLength >= :minContract) " +
@@ -43,16 +119,39 @@ public interface PlayerRepository extends JpaRepository<Player, Long> {
     @Query("UPDATE Player p SET p.contractLength = 0, p.contractAmount = 0.0, p.ownerId = null WHERE p.id IN :playerIds")
     void releasePlayersToFreeAgency(@Param("playerIds") List<Long> playerIds);
 
-    @Query("SELECT p FROM Player p WHERE LOWER(p.name) = LOWER(:name) " +
-            "AND p.ownerId IS NOT NULL " +
-            "AND NOT p.name LIKE 'Empty%Slot%' " +
-            "AND p.team != 'Free Agent'")
-    List<Player> findByNameIgnoreCaseExcludingEmptySlots(@Param("name") String name);
+    List<Player> findByNormalizedNameIsNull();
 
-    @Query("SELECT p FROM Player p WHERE LOWER(p.name) = LOWER(:name) " +
-            "AND p.ownerId IS NOT NULL " +
-            "AND p.ownerId != :ownerId " +
+    /**
+     * Which of the given normalized names the owner already has on their roster, in one query
+     * for a whole import batch. Uses the same exclusions as the single-name duplicate check.
+     */
+    @Query("SELECT p.normalizedName FROM Player p WHERE p.ownerId = :ownerId " +
+            "AND p.normalizedName IN :normalizedNames " +
             "AND NOT p.name LIKE 'Empty%Slot%' " +
             "AND p.team != 'Free Agent'")
-    List<Player> findByNameIgnoreCaseOnDifferentTeam(@Param("name") String name, @Param("ownerId") Long ownerId);
-}
\ No newline at end of file
+    List<String> findRosteredNormalizedNames(@Param("ownerId") Long ownerId,
+                                             @Param("normalizedNames") Collection<String> normalizedNames);
+
+    /**
+     * Fuzzy name search using pg_trgm word similarity against the trigram index from
+     * player_name_search_indexes.sql. The query must already be normalized.
+     */
+    @Query(value = "SELECT p.* FROM players p " +
+            "WHERE :query <% p.normalized_name " +
+            "AND (:freeAgentsOnly = false OR p.owner_id IS NULL) " +
+            "ORDER BY word_similarity(:query, p.normalized_name) DESC, p.name, p.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<Player> searchByNormalizedName(@Param("query") String query,
+                                        @Param("freeAgentsOnly") boolean freeAgentsOnly,
+                                        @Param("limit") int limit);
+
+    /**
+     * One team's roster summed in the database; totalSalary is the raw AAS sum.
+     */
+    interface OwnerRosterTotals {
+        Long getOwnerId();
+        double getTotalSalary();
+        long getMajorLeagueCount();
+        long getMinorLeagueCount();
+    }
+}
@@ -0,0 +1,56 @@
+package com.fantasyia.team;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Accent- and case-insensitive player name lookups backed by the normalized_name column.
+ */
+@Service
+public class PlayerSearchService {
+
+    private static final int MIN_QUERY_LENGTH = 3;
+    static final int MAX_RESULTS = 50;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    /**
+     * Closest name matches first. Queries shorter than three characters have no trigrams to
+     * match on and return nothing.
+     */
+    @Transactional(readOnly = true)
+    public List<Player> search(String query, boolean freeAgentsOnly, int limit) {
+        String normalizedQuery = Player.normalizeName(query);
+        if (normalizedQuery == null || normalizedQuery.length() < MIN_QUERY_LENGTH) {
+            return List.of();
+        }
+
+        int maxResults = Math.min(Math.max(limit, 1), MAX_RESULTS);
+        return playerRepository.searchByNormalizedName(normalizedQuery, freeAgentsOnly, maxResults);
+    }
+
+    /**
+     * Fills normalized_name for rows saved before the column existed. New and updated rows
+     * are normalized by Player itself.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillNormalizedNames() {
+        List<Player> players = playerRepository.findByNormalizedNameIsNull();
+        if (players.isEmpty()) {
+            return;
+        }
+
+        for (Player player : players) {
+            player.refreshNormalizedName();
+        }
+        playerRepository.saveAll(players);
+        System.out.println("Normalized names backfilled for " + players.size() + " players");
+    }
+}
@@ -0,0 +1,172 @@
+package com.fantasyia.team;
+
+import com.fantasyia.user.UserAccount;
+import com.fantasyia.user.UserAccountChangedEvent;
+import com.fantasyia.user.UserAccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps each user's cap and roster counters up to date as players join or leave the roster,
+ * so pages can show them without summing the roster. A reconciliation pass compares the
+ * counters against the players table and corrects any drift.
+ *
+ * <p>Players carry AAS in dollars; the cap figures on the user are in millions, converted
+ * with {@link #salaryOf(double)}.
+ */
+@Service
+public class RosterAccountingService {
+
+    private static final double SALARY_DRIFT_TOLERANCE = 0.01;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Calls through the proxy so reconcile() runs in its transaction when invoked from inside this bean
+    @Autowired
+    @Lazy
+    private RosterAccountingService self;
+
+    /**
+     * Adds the imported players' salary to the cap, then recounts the roster in the database
+     * since a bulk import may skip rows the caller cannot see.
+     */
+    @Transactional
+    public void playersImported(Long ownerId, List<Player> importedPlayers) {
+        if (importedPlayers.isEmpty()) {
+            return;
+        }
+
+        double salary = importedPlayers.stream()
+                .filter(p -> p.getAverageAnnualSalary() != null)
+                .mapToDouble(Player::getAverageAnnualSalary)
+                .sum();
+        playersImported(ownerId, salary);
+    }
+
+    /**
+     * Same as {@link #playersImported(Long, List)} for callers that only kept the raw AAS total.
+     */
+    @Transactional
+    public void playersImported(Long ownerId, double importedAverageAnnualSalary) {
+        if (ownerId == null) {
+            return;
+        }
+
+        userAccountRepository.adjustRosterTotals(ownerId, salaryOf(importedAverageAnnualSalary), 0, 0);
+
+        PlayerRepository.OwnerRosterTotals roster = playerRepository.findRosterTotalsForOwner(ownerId).orElse(null);
+        userAccountRepository.setRosterCounts(ownerId,
+                roster != null ? (int) roster.getMajorLeagueCount() : 0,
+                roster != null ? (int) roster.getMinorLeagueCount() : 0);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(ownerId));
+    }
+
+    /**
+     * Call with the player as it was on the roster, before its contract fields are cleared.
+     */
+    @Transactional
+    public void playerRemoved(Long ownerId, Player player) {
+        if (ownerId == null) {
+            return;
+        }
+
+        double salary = player.getAverageAnnualSalary() != null ? player.getAverageAnnualSalary() : 0.0;
+        boolean isMinorLeaguer = player.getIsMinorLeaguer();
+        userAccountRepository.adjustRosterTotals(ownerId, -salaryOf(salary),
+                isMinorLeaguer ? 0 : -1, isMinorLeaguer ? -1 : 0);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(ownerId));
+    }
+
+    /**
+     * Takes the posted player's AAS in dollars, the same unit {@link #playerRemoved} subtracts.
+     */
+    @Transactional
+    public void contractPosted(Long ownerId, double averageAnnualSalary, boolean isMinorLeaguer) {
+        userAccountRepository.adjustRosterTotals(ownerId, salaryOf(averageAnnualSalary),
+                isMinorLeaguer ? 0 : 1, isMinorLeaguer ? 1 : 0);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(ownerId));
+    }
+
+    /**
+     * Buyout fees are in millions, like the bids they are derived from.
+     */
+    @Transactional
+    public void buyoutFeeApplied(Long ownerId, double buyoutFee) {
+        userAccountRepository.addBuyoutFee(ownerId, buyoutFee);
+        eventPublisher.publishEvent(new UserAccountChangedEvent(ownerId));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        self.reconcile();
+    }
+
+    /**
+     * Roster counts and salary used are corrected from the players table; salary used is the
+     * rostered AAS plus the buyout fees the user has been charged.
+     */
+    @Scheduled(fixedDelay = 3600000, initialDelay = 3600000)
+    @Transactional
+    public void reconcile() {
+        Map<Long, PlayerRepository.OwnerRosterTotals> totals = playerRepository.findRosterTotalsByOwner()
+                .stream()
+                .collect(Collectors.toMap(PlayerRepository.OwnerRosterTotals::getOwnerId, t -> t));
+
+        List<UserAccount> users = userAccountRepository.findAll();
+        int corrected = 0;
+        for (UserAccount user : users) {
+            PlayerRepository.OwnerRosterTotals roster = totals.get(user.getId());
+            int majorLeagueCount = roster != null ? (int) roster.getMajorLeagueCount() : 0;
+            int minorLeagueCount = roster != null ? (int) roster.getMinorLeagueCount() : 0;
+            double rosterSalary = roster != null ? salaryOf(roster.getTotalSalary()) : 0.0;
+
+            if (user.getMajorLeagueRosterCount() != majorLeagueCount
+                    || user.getMinorLeagueRosterCount() != minorLeagueCount) {
+                System.out.println("Roster count drift for " + user.getUsername() + ": stored " +
+                        user.getMajorLeagueRosterCount() + "/" + user.getMinorLeagueRosterCount() +
+                        ", actual " + majorLeagueCount + "/" + minorLeagueCount + " (MLB/minors). Corrected.");
+                userAccountRepository.setRosterCounts(user.getId(), majorLeagueCount, minorLeagueCount);
+                eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId()));
+                corrected++;
+            }
+
+            double salaryUsed = rosterSalary + user.getBuyoutFeesUsed();
+            if (Math.abs(user.getCurrentSalaryUsed() - salaryUsed) > SALARY_DRIFT_TOLERANCE) {
+                System.out.println("Salary drift for " + user.getUsername() + ": stored $" +
+                        String.format("%.2fM", user.getCurrentSalaryUsed()) + ", actual $" +
+                        String.format("%.2fM", salaryUsed) + " (rostered $" + String.format("%.2fM", rosterSalary) +
+                        " + buyouts $" + String.format("%.2fM", user.getBuyoutFeesUsed()) + "). Corrected.");
+                userAccountRepository.setSalaryUsed(user.getId(), salaryUsed);
+                eventPublisher.publishEvent(new UserAccountChangedEvent(user.getId()));
+                corrected++;
+            }
+        }
+
+        System.out.println("Roster reconciliation checked " + users.size() + " users, corrected " + corrected);
+    }
+
+    public double salaryOf(double averageAnnualSalary) {
+        return averageAnnualSalary / 1000000.0; // Convert to millions
+    }
+
+    public double dollarsOf(double salaryInMillions) {
+        return salaryInMillions * 1000000.0;
+    }
+}
@@ -0,0 +1,160 @@
+package com.fantasyia.team;
+
+import com.fantasyia.user.UserAccount;
+import com.fantasyia.user.UserAccountRepository;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes rosters as .xlsx straight to an output stream. Sheets are built with SXSSF, which
+ * keeps only the last {@link #ROW_WINDOW} rows in memory and flushes the rest to a temp file,
+ * so a league-wide export costs the same memory as a single roster. Columns have fixed widths
+ * because auto-sizing would have to measure every row.
+ */
+@Service
+public class RosterExportService {
+
+    public static final MediaType XLSX_MEDIA_TYPE =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private static final int ROW_WINDOW = 100;
+    private static final int LEAGUE_PAGE_SIZE = 500;
+
+    // The first five columns match the import layout, so an export can be imported again
+    private static final String[] PLAYER_HEADERS = {"Name", "Position", "MLB Team", "Contract Length",
+            "Contract Amount", "AAV", "Minor Leaguer", "Rookie", "At Bats", "Innings Pitched"};
+    private static final int[] PLAYER_COLUMN_WIDTHS = {28, 10, 24, 16, 18, 16, 14, 10, 10, 16};
+    private static final String OWNER_HEADER = "Fantasy Team";
+    private static final int OWNER_COLUMN_WIDTH = 20;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    public void writeRoster(Long ownerId, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        try {
+            PlayerSheetWriter sheet = new PlayerSheetWriter(workbook, "My Players", false);
+            for (Player player : playerRepository.findByOwnerId(ownerId)) {
+                sheet.writePlayer(player, null);
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * Every rostered player in the league, one sheet ordered by team. Players are read
+     * {@link #LEAGUE_PAGE_SIZE} at a time with a keyset cursor, so neither the query results
+     * nor the workbook grow with the size of the league.
+     */
+    public void writeLeague(OutputStream out) throws IOException {
+        Map<Long, String> teamNames = new HashMap<>();
+        for (UserAccount user : userAccountRepository.findAll()) {
+            teamNames.put(user.getId(), user.getUsername());
+        }
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        try {
+            PlayerSheetWriter sheet = new PlayerSheetWriter(workbook, "League Rosters", true);
+
+            long afterOwnerId = Long.MIN_VALUE;
+            long afterId = Long.MIN_VALUE;
+            int exported = 0;
+            List<Player> page;
+            do {
+                page = playerRepository.findRosteredPlayersAfter(afterOwnerId, afterId, PageRequest.of(0, LEAGUE_PAGE_SIZE));
+                for (Player player : page) {
+                    sheet.writePlayer(player, teamNames.getOrDefault(player.getOwnerId(), "Team " + player.getOwnerId()));
+                }
+                if (!page.isEmpty()) {
+                    Player last = page.get(page.size() - 1);
+                    afterOwnerId = last.getOwnerId();
+                    afterId = last.getId();
+                    exported += page.size();
+                }
+            } while (page.size() == LEAGUE_PAGE_SIZE);
+
+            workbook.write(out);
+            System.out.println("League roster export: " + exported + " players");
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * Appends player rows to one sheet. The header and amount styles are created once
+     * per workbook and shared by every cell, since each new style is stored in the file.
+     */
+    private static class PlayerSheetWriter {
+        private final SXSSFSheet sheet;
+        private final boolean includeOwner;
+        private final CellStyle amountStyle;
+        private int rowNum = 0;
+
+        private PlayerSheetWriter(SXSSFWorkbook workbook, String sheetName, boolean includeOwner) {
+            this.sheet = workbook.createSheet(sheetName);
+            this.includeOwner = includeOwner;
+
+            Font headerFont = workbook.createFont();
+            headerFont.setBold(true);
+            CellStyle headerStyle = workbook.createCellStyle();
+            headerStyle.setFont(headerFont);
+
+            amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.createDataFormat().getFormat("#,##0"));
+
+            Row header = sheet.createRow(rowNum++);
+            for (int i = 0; i < PLAYER_HEADERS.length; i++) {
+                header.createCell(i).setCellValue(PLAYER_HEADERS[i]);
+                header.getCell(i).setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, PLAYER_COLUMN_WIDTHS[i] * 256);
+            }
+            if (includeOwner) {
+                header.createCell(PLAYER_HEADERS.length).setCellValue(OWNER_HEADER);
+                header.getCell(PLAYER_HEADERS.length).setCellStyle(headerStyle);
+                sheet.setColumnWidth(PLAYER_HEADERS.length, OWNER_COLUMN_WIDTH * 256);
+            }
+            sheet.createFreezePane(0, 1);
+        }
+
+        void writePlayer(Player player, String ownerName) {
+            Row row = sheet.createRow(rowNum++);
+
+            row.createCell(0).setCellValue(player.getName() != null ? player.getName() : "");
+            row.createCell(1).setCellValue(player.getPosition() != null ? player.getPosition() : "");
+            row.createCell(2).setCellValue(player.getTeam() != null ? player.getTeam() : "");
+            row.createCell(3).setCellValue(player.getContractLength() != null ? player.getContractLength() : 0);
+            row.createCell(4).setCellValue(player.getContractAmount() != null ? player.getContractAmount() : 0.0);
+            row.createCell(5).setCellValue(player.getAverageAnnualSalary() != null ? player.getAverageAnnualSalary() : 0.0);
+            row.createCell(6).setCellValue(player.getIsMinorLeaguer() != null ? player.getIsMinorLeaguer() : false);
+            row.createCell(7).setCellValue(player.getIsRookie() != null ? player.getIsRookie() : false);
+            row.createCell(8).setCellValue(player.getAtBats() != null ? player.getAtBats() : 0);
+            row.createCell(9).setCellValue(player.getInningsPitched() != null ? player.getInningsPitched() : 0);
+            if (includeOwner) {
+                row.createCell(10).setCellValue(ownerName);
+            }
+
+            row.getCell(4).setCellStyle(amountStyle);
+            row.getCell(5).setCellStyle(amountStyle);
+        }
+    }
+}
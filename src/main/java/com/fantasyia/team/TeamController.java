@@ -1,16 +1,13 @@
 package com.fantasyia.team;
 
 import com.fantasyia.auction.AuctionRepository;
+import com.fantasyia.user.CurrentUser;
 import com.fantasyia.user.UserAccount;
 import com.fantasyia.user.UserAccountRepository;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.ui.Model;
@@ -18,14 +15,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 
@@ -44,6 +39,18 @@ public class TeamController {
     @Autowired
     private ReleasedPlayerRepository releasedPlayerRepository;
 
+    @Autowired
+    private RosterAccountingService rosterAccountingService;
+
+    @Autowired
+    private PlayerSearchService playerSearchService;
+
+    @Autowired
+    private PlayerImportJobService playerImportJobService;
+
+    @Autowired
+    private RosterExportService rosterExportService;
+
     private static final LinkedHashMap<String, Integer> REQUIRED_ROSTER_TEMPLATE = new LinkedHashMap<>();
 
     static {
@@ -60,6 +67,7 @@ public class TeamController {
 
     @GetMapping("/team")
     public String team(
+            @CurrentUser UserAccount user,
             Model model,
             @RequestParam(required = false) String position,
             @RequestParam(required = false) Integer minContract,
@@ -67,21 +75,11 @@ public class TeamController {
             @RequestParam(required = false) Double minSalary,
             @RequestParam(required = false) Double maxSalary) {
 
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
         if (user == null) {
             return "redirect:/login";
         }
 
         ensureRosterPlaceholders(user.getId());
-        
-        // Update salary and roster counts before displaying
-        updateUserSalaryAndCounts(user);
-        
-        // Refresh user data after update
-        user = userAccountRepository.findById(user.getId()).orElse(user);
 
         List<Player> players = playerRepository.findPlayersWithFilters(
                 user.getId(), position, minContract, maxContract, minSalary, maxSalary
@@ -101,90 +99,46 @@ public class TeamController {
     private void ensureRosterPlaceholders(Long userId) {
     }
 
+    /**
+     * Streams the roster workbook to the response as it is written instead of buffering it.
+     */
     @GetMapping("/team/export")
-    public ResponseEntity<byte[]> exportPlayersToExcel() throws IOException {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
+    public ResponseEntity<StreamingResponseBody> exportPlayersToExcel(@CurrentUser UserAccount user) {
         if (user == null) {
             return ResponseEntity.badRequest().build();
         }
 
-        List<Player> players = playerRepository.findByOwnerId(user.getId());
-
-        Workbook workbook = new XSSFWorkbook();
-        Sheet sheet = workbook.createSheet("My Players");
-
-        Row headerRow = sheet.createRow(0);
-        String[] headers = {"Name", "Position", "MLB Team", "Contract Length", "Contract Amount", "AAV", "Minor Leaguer", "Rookie", "At Bats", "Innings Pitched"};
-
-        for (int i = 0; i < headers.length; i++) {
-            Cell cell = headerRow.createCell(i);
-            cell.setCellValue(headers[i]);
-
-            CellStyle headerStyle = workbook.createCellStyle();
-            Font font = workbook.createFont();
-            font.setBold(true);
-            headerStyle.setFont(font);
-            cell.setCellStyle(headerStyle);
-        }
-
-        int rowNum = 1;
-        for (Player player : players) {
-            Row row = sheet.createRow(rowNum++);
-
-            row.createCell(0).setCellValue(player.getName() != null ? player.getName() : "");
-            row.createCell(1).setCellValue(player.getPosition() != null ? player.getPosition() : "");
-            row.createCell(2).setCellValue(player.getTeam() != null ? player.getTeam() : "");
-            row.createCell(3).setCellValue(player.getContractLength() != null ? player.getContractLength() : 0);
-            row.createCell(4).setCellValue(player.getContractAmount() != null ? player.getContractAmount() : 0.0);
-            row.createCell(5).setCellValue(player.getAverageAnnualSalary() != null ? player.getAverageAnnualSalary() : 0.0);
-            row.createCell(6).setCellValue(player.getIsMinorLeaguer() != null ? player.getIsMinorLeaguer() : false);
-            row.createCell(7).setCellValue(player.getIsRookie() != null ? player.getIsRookie() : false);
-            row.createCell(8).setCellValue(player.getAtBats() != null ? player.getAtBats() : 0);
-            row.createCell(9).setCellValue(player.getInningsPitched() != null ? player.getInningsPitched() : 0);
-        }
-
-        for (int i = 0; i < headers.length; i++) {
-            sheet.autoSizeColumn(i);
-        }
-
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        workbook.write(out);
-        workbook.close();
-
+        Long ownerId = user.getId();
         String filename = user.getUsername() + "_players_" + LocalDateTime.now().toString().substring(0, 10) + ".xlsx";
 
         return ResponseEntity.ok()
                              .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
-                             .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                             .body(out.toByteArray());
+                             .contentType(RosterExportService.XLSX_MEDIA_TYPE)
+                             .body(out -> rosterExportService.writeRoster(ownerId, out));
     }
 
     @GetMapping("/team/import")
-    public String showImportPage(Model model) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
+    public String showImportPage(@CurrentUser UserAccount user,
+                                 @RequestParam(value = "job", required = false) String jobId,
+                                 Model model) {
         if (user == null) {
             return "redirect:/login";
         }
 
         model.addAttribute("currentUser", user);
+        model.addAttribute("jobId", jobId);
         return "import-players";
     }
 
+    /**
+     * Queues the upload as a background import and returns to the import page, which polls
+     * the job's progress.
+     */
     @PostMapping("/team/import")
-    @Transactional
     public String importPlayersFromFile(
+            @CurrentUser UserAccount user,
             @RequestParam("file") MultipartFile file,
             RedirectAttributes redirectAttributes) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-
         if (user == null) {
             redirectAttributes.addFlashAttribute("error", "User not found");
             return "redirect:/login";
@@ -195,200 +149,56 @@ public class TeamController {
             return "redirect:/team/import";
         }
 
-        try {
-            String filename = file.getOriginalFilename();
-            if (filename == null) {
-                redirectAttributes.addFlashAttribute("error", "Invalid file");
-                return "redirect:/team/import";
-            }
-
-            List<Player> playersToImport = new ArrayList<>();
-
-            if (filename.toLowerCase().endsWith(".csv")) {
-                playersToImport = parseCSVFile(file, user.getId());
-            }
-            else if (filename.toLowerCase().endsWith(".xlsx") || filename.toLowerCase().endsWith(".xls")) {
-                playersToImport = parseExcelFile(file, user.getId());
-            }
-            else {
-                redirectAttributes.addFlashAttribute("error", "Only CSV and Excel files are supported");
-                return "redirect:/team/import";
-            }
-
-            int importedCount = 0;
-            int skippedCount = 0;
-
-            for (Player player : playersToImport) {
-                List<Player> existingPlayers = playerRepository.findByNameIgnoreCaseExcludingEmptySlots(player.getName());
-                boolean playerExists = existingPlayers.stream()
-                                                      .anyMatch(p -> p.getOwnerId() != null && p.getOwnerId().equals(user.getId()));
-
-                if (!playerExists) {
-                    playerRepository.save(player);
-                    importedCount++;
-                }
-                else {
-                    skippedCount++;
-                }
-            }
-            
-            // Update user salary and roster counts after import
-            if (importedCount > 0) {
-                updateUserSalaryAndCounts(user);
-            }
-
-            if (importedCount > 0) {
-                redirectAttributes.addFlashAttribute(
-                        "success",
-                        "Successfully imported " + importedCount + " players" +
-                                (skippedCount > 0 ? " (skipped " + skippedCount + " duplicates)" : ""));
-            }
-            else if (skippedCount > 0) {
-                redirectAttributes.addFlashAttribute("warning", "All " + skippedCount + " players were duplicates and skipped");
-            }
-            else {
-                redirectAttributes.addFlashAttribute("error", "No players were imported");
-            }
+        String filename = file.getOriginalFilename();
+        if (filename == null) {
+            redirectAttributes.addFlashAttribute("error", "Invalid file");
+            return "redirect:/team/import";
+        }
 
+        if (PlayerImportJobService.supportedExtension(filename) == null) {
+            redirectAttributes.addFlashAttribute("error", "Only CSV and Excel files are supported");
+            return "redirect:/team/import";
+        }
+
+        try {
+            PlayerImportJob job = playerImportJobService.submit(file, user.getId());
+            return "redirect:/team/import?job=" + job.getId();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            redirectAttributes.addFlashAttribute("error", e.getMessage());
         } catch (Exception e) {
             e.printStackTrace();
             redirectAttributes.addFlashAttribute("error", "Error importing file: " + e.getMessage());
         }
 
-        return "redirect:/team";
+        return "redirect:/team/import";
     }
 
-    private List<Player> parseCSVFile(MultipartFile file, Long ownerId) throws IOException {
-        List<Player> players = new ArrayList<>();
-
-        try (InputStream inputStream = file.getInputStream()) {
-            String content = new String(inputStream.readAllBytes());
-            String[] lines = content.split("\n");
-
-            for (int i = 1; i < lines.length; i++) {
-                String line = lines[i].trim();
-                if (!line.isEmpty()) {
-                    String[] fields = line.split(",");
-
-                    if (fields.length >= 5) {
-                        Player player = new Player();
-                        player.setName(fields[0].trim().replace("\"", ""));
-                        player.setPosition(fields[1].trim().replace("\"", ""));
-                        player.setTeam(fields[2].trim().replace("\"", ""));
-
-                        try {
-                            player.setContractLength(Integer.parseInt(fields[3].trim()));
-                        } catch (NumberFormatException e) {
-                            player.setContractLength(1);
-                        }
-
-                        try {
-                            player.setContractAmount(Double.parseDouble(fields[4].trim()));
-                            player.setAverageAnnualSalary(player.getContractAmount() / player.getContractLength());
-                        } catch (NumberFormatException e) {
-                            player.setContractAmount(0.0);
-                            player.setAverageAnnualSalary(0.0);
-                        }
-
-                        player.setOwnerId(ownerId);
-                        player.setIsMinorLeaguer(false);
-                        player.setIsRookie(false);
-                        players.add(player);
-                    }
-                }
-            }
+    /**
+     * Progress of an import job. Only the owner who uploaded it, or a commissioner, can see it.
+     */
+    @GetMapping(value = "/team/import/jobs/{jobId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public ResponseEntity<PlayerImportJob> getImportJob(@CurrentUser UserAccount user, @PathVariable String jobId) {
+        PlayerImportJob job = playerImportJobService.getJob(jobId);
+        if (user == null || job == null ||
+                (!job.getOwnerId().equals(user.getId()) && !"COMMISSIONER".equals(user.getRole()))) {
+            return ResponseEntity.notFound().build();
         }
-
-        return players;
+        return ResponseEntity.ok(job);
     }
 
-    private List<Player> parseExcelFile(MultipartFile file, Long ownerId) throws IOException {
-        List<Player> players = new ArrayList<>();
-
-        try (InputStream inputStream = file.getInputStream();
-             Workbook workbook = WorkbookFactory.create(inputStream)) {
-
-            Sheet sheet = workbook.getSheetAt(0);
-
-            for (int i = 1; i <= sheet.getLastRowNum(); i++) {
-                Row row = sheet.getRow(i);
-                if (row != null) {
-                    Player player = new Player();
-
-                    Cell nameCell = row.getCell(0);
-                    if (nameCell != null) {
-                        player.setName(getCellValueAsString(nameCell));
-                    }
-
-                    Cell positionCell = row.getCell(1);
-                    if (positionCell != null) {
-                        player.setPosition(getCellValueAsString(positionCell));
-                    }
-
-                    Cell teamCell = row.getCell(2);
-                    if (teamCell != null) {
-                        player.setTeam(getCellValueAsString(teamCell));
-                    }
-
-                    Cell contractLengthCell = row.getCell(3);
-                    if (contractLengthCell != null) {
-                        try {
-                            player.setContractLength((int) contractLengthCell.getNumericCellValue());
-                        } catch (Exception e) {
-                            player.setContractLength(1);
-                        }
-                    }
-
-                    Cell contractAmountCell = row.getCell(4);
-                    if (contractAmountCell != null) {
-                        try {
-                            double amount = contractAmountCell.getNumericCellValue();
-                            player.setContractAmount(amount);
-                            if (player.getContractLength() != null && player.getContractLength() > 0) {
-                                player.setAverageAnnualSalary(amount / player.getContractLength());
-                            }
-                        } catch (Exception e) {
-                            player.setContractAmount(0.0);
-                            player.setAverageAnnualSalary(0.0);
-                        }
-                    }
-
-                    player.setOwnerId(ownerId);
-                    player.setIsMinorLeaguer(false);
-                    player.setIsRookie(false);
-
-                    if (player.getName() != null && !player.getName().trim().isEmpty()) {
-                        players.add(player);
-                    }
-                }
-            }
-        }
-
-        return players;
-    }
-
-    private String getCellValueAsString(Cell cell) {
-        if (cell == null) {
-            return "";
-        }
-
-        switch (cell.getCellType()) {
-            case STRING:
-                return cell.getStringCellValue().trim();
-            case NUMERIC:
-                if (DateUtil.isCellDateFormatted(cell)) {
-                    return cell.getDateCellValue().toString();
-                }
-                else {
-                    return String.valueOf((long) cell.getNumericCellValue());
-                }
-            case BOOLEAN:
-                return String.valueOf(cell.getBooleanCellValue());
-            case FORMULA:
-                return cell.getCellFormula();
-            default:
-                return "";
-        }
+    /**
+     * Fuzzy player lookup for nomination and import screens; "acuna" finds "Ronald Acuña Jr.".
+     */
+    @GetMapping(value = "/players/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public List<PlayerSearchResult> searchPlayers(@RequestParam("q") String query,
+                                                  @RequestParam(defaultValue = "false") boolean freeAgentsOnly,
+                                                  @RequestParam(defaultValue = "10") int limit) {
+        int maxResults = Math.min(Math.max(limit, 1), PlayerSearchService.MAX_RESULTS);
+        return playerSearchService.search(query, freeAgentsOnly, maxResults).stream()
+                .map(PlayerSearchResult::new)
+                .toList();
     }
 
     @GetMapping("/sample_players.csv")
@@ -422,11 +232,8 @@ public class TeamController {
 
     @PostMapping("/team/release-player")
     @Transactional
-    public String releasePlayer(@RequestParam Long playerId, RedirectAttributes redirectAttributes) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-        
+    public String releasePlayer(@CurrentUser UserAccount user,
+                                @RequestParam Long playerId, RedirectAttributes redirectAttributes) {
         if (user == null) {
             redirectAttributes.addFlashAttribute("error", "User not authenticated");
             return "redirect:/login";
@@ -451,7 +258,11 @@ public class TeamController {
             releasedPlayer.setReleasedAt(LocalDateTime.now());
             
             releasedPlayerRepository.save(releasedPlayer);
-            
+
+            // Take the player off the cap before its contract fields are cleared
+            rosterAccountingService.playerRemoved(user.getId(), player);
+            player = playerRepository.findById(playerId).orElseThrow();
+
             // Release the player (clear ownership)
             player.setOwnerId(null);
             player.setContractLength(0);
@@ -459,9 +270,6 @@ public class TeamController {
             player.setAverageAnnualSalary(0.0);
             playerRepository.save(player);
             
-            // Update user salary and roster counts
-            updateUserSalaryAndCounts(user);
-            
             redirectAttributes.addFlashAttribute("success", 
                 "Player " + player.getName() + " has been released and is pending commissioner approval");
                 
@@ -475,11 +283,8 @@ public class TeamController {
     
     @PostMapping("/team/remove/{playerId}")
     @Transactional
-    public String removePlayer(@PathVariable Long playerId, RedirectAttributes redirectAttributes) {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String username = auth.getName();
-        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
-        
+    public String removePlayer(@CurrentUser UserAccount user,
+                               @PathVariable Long playerId, RedirectAttributes redirectAttributes) {
         if (user == null) {
             redirectAttributes.addFlashAttribute("error", "User not authenticated");
             return "redirect:/login";
@@ -497,7 +302,7 @@ public class TeamController {
             playerRepository.delete(player);
             
             // Update user salary and roster counts
-            updateUserSalaryAndCounts(user);
+            rosterAccountingService.playerRemoved(user.getId(), player);
             
             redirectAttributes.addFlashAttribute("success", 
                 "Player " + playerName + " has been removed from the database");
@@ -509,27 +314,29 @@ public class TeamController {
         
         return "redirect:/team";
     }
-    
-    private void updateUserSalaryAndCounts(UserAccount user) {
-        List<Player> userPlayers = playerRepository.findByOwnerId(user.getId());
-        
-        double totalSalary = userPlayers.stream()
-            .filter(p -> p.getAverageAnnualSalary() != null)
-            .mapToDouble(Player::getAverageAnnualSalary)
-            .sum();
-            
-        int majorLeagueCount = (int) userPlayers.stream()
-            .filter(p -> p.getIsMinorLeaguer() != null && !p.getIsMinorLeaguer())
-            .count();
-            
-        int minorLeagueCount = (int) userPlayers.stream()
-            .filter(p -> p.getIsMinorLeaguer() != null && p.getIsMinorLeaguer())
-            .count();
-        
-        user.setCurrentSalaryUsed(totalSalary / 1000000.0); // Convert to millions
-        user.setMajorLeagueRosterCount(majorLeagueCount);
-        user.setMinorLeagueRosterCount(minorLeagueCount);
-        
-        userAccountRepository.save(user);
+
+    /**
+     * One search match; a null ownerId means the player is a free agent.
+     */
+    public static class PlayerSearchResult {
+        private final Long id;
+        private final String name;
+        private final String position;
+        private final String team;
+        private final Long ownerId;
+
+        public PlayerSearchResult(Player player) {
+            this.id = player.getId();
+            this.name = player.getName();
+            this.position = player.getPosition();
+            this.team = player.getTeam();
+            this.ownerId = player.getOwnerId();
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getPosition() { return position; }
+        public String getTeam() { return team; }
+        public Long getOwnerId() { return ownerId; }
     }
 }
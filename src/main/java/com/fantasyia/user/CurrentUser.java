@@ -0,0 +1,15 @@
+package com.fantasyia.user;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller parameter that receives the signed-in {@link UserAccount}, or null for
+ * anonymous requests. Resolved by {@link CurrentUserArgumentResolver}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -0,0 +1,67 @@
+package com.fantasyia.user;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Signed-in users keyed by username. Entries are filled from the row loaded at login, dropped
+ * when the account changes or the user logs out, and reloaded after {@link #MAX_AGE} to pick
+ * up edits made directly in the database. Cached accounts are shared between requests and
+ * must not be modified; load a fresh copy to change one.
+ */
+@Component
+public class CurrentUserCache {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private final Map<String, CachedUser> users = new ConcurrentHashMap<>();
+
+    public UserAccount get(String username) {
+        CachedUser cached = users.get(username);
+        if (cached != null && !cached.isExpired()) {
+            return cached.user;
+        }
+
+        UserAccount user = userAccountRepository.findByUsername(username).orElse(null);
+        if (user != null) {
+            put(user);
+        } else {
+            users.remove(username);
+        }
+        return user;
+    }
+
+    public void put(UserAccount user) {
+        users.put(user.getUsername(), new CachedUser(user));
+    }
+
+    public void evict(String username) {
+        users.remove(username);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserAccountChanged(UserAccountChangedEvent event) {
+        users.values().removeIf(cached -> event.getUserId().equals(cached.user.getId()));
+    }
+
+    private static final class CachedUser {
+        private final UserAccount user;
+        private final long loadedAt = System.nanoTime();
+
+        private CachedUser(UserAccount user) {
+            this.user = user;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - loadedAt > MAX_AGE.toNanos();
+        }
+    }
+}
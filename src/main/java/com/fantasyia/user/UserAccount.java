@@ -1,8 +1,12 @@
 package com.fantasyia.user;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Table(name = "users", uniqueConstraints = {
         @UniqueConstraint(columnNames = {"username"})
 })
@@ -26,6 +30,10 @@ public class UserAccount {
     @Column
     private Double currentSalaryUsed;
 
+    // Buyout fees charged so far, in millions; part of currentSalaryUsed but tied to no rostered player
+    @Column
+    private Double buyoutFeesUsed;
+
     @Column
     private Integer majorLeagueRosterCount;
 
@@ -82,6 +90,14 @@ public class UserAccount {
         this.currentSalaryUsed = currentSalaryUsed;
     }
 
+    public Double getBuyoutFeesUsed() {
+        return buyoutFeesUsed != null ? buyoutFeesUsed : 0.0;
+    }
+
+    public void setBuyoutFeesUsed(Double buyoutFeesUsed) {
+        this.buyoutFeesUsed = buyoutFeesUsed;
+    }
+
     public Integer getMajorLeagueRosterCount() {
 
         return majorLeagueRosterCount != null ? majorLeagueRosterCount : 0;
@@ -0,0 +1,15 @@
+package com.fantasyia.user;
+
+/**
+ * Published when a user's stored account row changes outside the entity they were loaded
+ * with, so cached copies can be dropped.
+ */
+public class UserAccountChangedEvent {
+    private final Long userId;
+
+    public UserAccountChangedEvent(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getUserId() { return userId; }
+}
@@ -1,6 +1,10 @@
 package com.fantasyia.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +13,43 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, Long>
     Optional<UserAccount> findByUsername(String username);
     boolean existsByUsername(String username);
     List<UserAccount> findByRoleOrderByUsername(String role);
+
+    /**
+     * Adds the deltas to the user's cap and roster counters in one statement, so concurrent
+     * roster changes for the same user never overwrite each other.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE UserAccount u SET u.currentSalaryUsed = COALESCE(u.currentSalaryUsed, 0.0) + :salaryDelta, " +
+            "u.majorLeagueRosterCount = COALESCE(u.majorLeagueRosterCount, 0) + :majorDelta, " +
+            "u.minorLeagueRosterCount = COALESCE(u.minorLeagueRosterCount, 0) + :minorDelta " +
+            "WHERE u.id = :id")
+    int adjustRosterTotals(@Param("id") Long id,
+                           @Param("salaryDelta") double salaryDelta,
+                           @Param("majorDelta") int majorDelta,
+                           @Param("minorDelta") int minorDelta);
+
+    /**
+     * Charges a buyout fee to the cap and records it separately, so reconciliation can tell
+     * fees apart from rostered salary.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE UserAccount u SET u.currentSalaryUsed = COALESCE(u.currentSalaryUsed, 0.0) + :fee, " +
+            "u.buyoutFeesUsed = COALESCE(u.buyoutFeesUsed, 0.0) + :fee " +
+            "WHERE u.id = :id")
+    int addBuyoutFee(@Param("id") Long id, @Param("fee") double fee);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE UserAccount u SET u.currentSalaryUsed = :salaryUsed WHERE u.id = :id")
+    int setSalaryUsed(@Param("id") Long id, @Param("salaryUsed") double salaryUsed);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Transactional
+    @Query("UPDATE UserAccount u SET u.majorLeagueRosterCount = :majorCount, u.minorLeagueRosterCount = :minorCount " +
+            "WHERE u.id = :id")
+    int setRosterCounts(@Param("id") Long id,
+                        @Param("majorCount") int majorCount,
+                        @Param("minorCount") int minorCount);
 }
@@ -0,0 +1,151 @@
+package com.fantasyia.auction;
+
+import com.fantasyia.team.Player;
+import com.fantasyia.team.PlayerRepository;
+import com.fantasyia.user.UserAccount;
+import com.fantasyia.user.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Load test for concurrent bidding: thousands of bids on a handful of items from many threads.
+ */
+public class AuctionServiceConcurrencyTest {
+
+    private static final int ITEM_COUNT = 4;
+    private static final int THREAD_COUNT = 32;
+    private static final int BIDS_PER_THREAD = 250;
+
+    @Test
+    public void testFinalBidEqualsHighestAcceptedBid() throws Exception {
+        AuctionItemRepository auctionItemRepository = mock(AuctionItemRepository.class);
+        AuctionRepository auctionRepository = mock(AuctionRepository.class);
+        BidRepository bidRepository = mock(BidRepository.class);
+        PlayerRepository playerRepository = mock(PlayerRepository.class);
+        UserAccountRepository userAccountRepository = mock(UserAccountRepository.class);
+
+        Auction auction = new Auction("Main Player Auction", null, null, 1L, "Load test");
+        auction.setId(1L);
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(auction));
+
+        for (long itemId = 1; itemId <= ITEM_COUNT; itemId++) {
+            AuctionItem item = new AuctionItem(itemId, 1L, 0.5);
+            item.setId(itemId);
+            when(auctionItemRepository.findById(itemId)).thenReturn(Optional.of(item));
+        }
+
+        Player player = new Player("Test Player", "OF", "LAD", 0, 0.0, null);
+        when(playerRepository.findById(anyLong())).thenReturn(Optional.of(player));
+
+        UserAccount bidder = new UserAccount();
+        bidder.setId(7L);
+        bidder.setSalaryCap(1_000_000.0);
+        when(userAccountRepository.findById(anyLong())).thenReturn(Optional.of(bidder));
+
+        AtomicLong bidIds = new AtomicLong();
+        when(bidRepository.save(any(Bid.class))).thenAnswer(invocation -> {
+            Bid bid = invocation.getArgument(0);
+            if (bid.getId() == null) {
+                bid.setId(bidIds.incrementAndGet());
+            }
+            return bid;
+        });
+
+        MainAuctionRegistry mainAuctionRegistry = new MainAuctionRegistry();
+        ReflectionTestUtils.setField(mainAuctionRegistry, "auctionRepository", auctionRepository);
+
+        AuctionOrderBook orderBook = new AuctionOrderBook();
+        ReflectionTestUtils.setField(orderBook, "auctionItemRepository", auctionItemRepository);
+        ReflectionTestUtils.setField(orderBook, "mainAuctionRegistry", mainAuctionRegistry);
+        ReflectionTestUtils.setField(orderBook, "bidRepository", bidRepository);
+        ReflectionTestUtils.setField(orderBook, "playerRepository", playerRepository);
+
+        AuctionService auctionService = new AuctionService();
+        ReflectionTestUtils.setField(auctionService, "auctionOrderBook", orderBook);
+        ReflectionTestUtils.setField(auctionService, "auctionExpiryScheduler", new AuctionExpiryScheduler());
+        ReflectionTestUtils.setField(auctionService, "bidRepository", bidRepository);
+        ReflectionTestUtils.setField(auctionService, "userAccountRepository", userAccountRepository);
+        ReflectionTestUtils.setField(auctionService, "eventPublisher", mock(ApplicationEventPublisher.class));
+
+        Map<Long, Queue<Bid>> acceptedBids = new ConcurrentHashMap<>();
+        for (long itemId = 1; itemId <= ITEM_COUNT; itemId++) {
+            acceptedBids.put(itemId, new ConcurrentLinkedQueue<>());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < BIDS_PER_THREAD; i++) {
+                    long itemId = random.nextLong(1, ITEM_COUNT + 1);
+                    double amount = random.nextInt(5, 20000) / 10.0;
+                    AuctionService.BidResult result = auctionService.placeBid(itemId, 7L, amount);
+                    if (result.isSuccess()) {
+                        acceptedBids.get(itemId).add(result.getBid());
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int totalAccepted = 0;
+        for (long itemId = 1; itemId <= ITEM_COUNT; itemId++) {
+            Queue<Bid> accepted = acceptedBids.get(itemId);
+            assertFalse(accepted.isEmpty(), "Every item should accept at least one bid");
+            totalAccepted += accepted.size();
+
+            Bid highest = accepted.stream()
+                    .max((a, b) -> Double.compare(a.getAmount(), b.getAmount()))
+                    .orElseThrow();
+
+            OrderBookEntry.BidState state = orderBook.peek(itemId).getState();
+            assertEquals(highest.getAmount().doubleValue(), state.getCurrentBid().doubleValue(), 0.0001);
+            assertEquals(highest.getId(), state.getWinningBidId());
+            assertEquals(accepted.size(), state.getBidCount());
+            assertEquals(1, state.getDistinctBidderCount());
+        }
+
+        System.out.println("✓ " + (THREAD_COUNT * BIDS_PER_THREAD) + " concurrent bids, " + totalAccepted +
+                " accepted, final bids match the highest accepted bid on every item");
+    }
+
+    @Test
+    public void testLockStripesAreStablePerItem() {
+        ItemLockStripes stripes = new ItemLockStripes(64);
+
+        assertEquals(64, stripes.size());
+        assertSame(stripes.lockFor(42L), stripes.lockFor(42L));
+    }
+}
@@ -0,0 +1,50 @@
+package com.fantasyia.team;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RFC 4180 parsing: quoted commas, escaped quotes, embedded line breaks and bad-row recovery.
+ */
+public class CsvReaderTest {
+
+    @Test
+    public void testQuotedFieldsAndLineBreaks() throws IOException {
+        String csv = "Name,Position\r\n" +
+                "\"Acuña Jr., Ronald\",OF\r\n" +
+                "\n" +
+                "\"Said \"\"hi\"\"\",\"two\nlines\"\n" +
+                "last,row";
+
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            assertEquals(List.of("Name", "Position"), reader.readRecord());
+            assertEquals(List.of("Acuña Jr., Ronald", "OF"), reader.readRecord());
+            assertEquals(List.of("Said \"hi\"", "two\nlines"), reader.readRecord());
+            assertEquals(4, reader.getRecordLineNumber());
+            assertEquals(List.of("last", "row"), reader.readRecord());
+            assertNull(reader.readRecord());
+        }
+
+        System.out.println("✓ Quoted commas, escaped quotes and embedded line breaks parsed");
+    }
+
+    @Test
+    public void testMalformedRowIsReportedAndSkipped() throws IOException {
+        String csv = "\"closed\"extra,1\n" +
+                "good,2\n";
+
+        try (CsvReader reader = new CsvReader(new StringReader(csv))) {
+            CsvReader.CsvFormatException error = assertThrows(CsvReader.CsvFormatException.class, reader::readRecord);
+            assertEquals(1, error.getLineNumber());
+            assertEquals(List.of("good", "2"), reader.readRecord());
+            assertNull(reader.readRecord());
+        }
+
+        System.out.println("✓ Malformed row reported with its line number and reading resumed");
+    }
+}
@@ -0,0 +1,98 @@
+package com.fantasyia.team;
+
+import com.fantasyia.user.UserAccount;
+import com.fantasyia.user.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Starts a context with drifted cap and roster counters and fires ApplicationReadyEvent, so the
+ * startup reconcile has to correct them through its transactional proxy.
+ */
+public class RosterReconciliationStartupTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    static class TransactionConfig {
+    }
+
+    @Test
+    public void testStartupReconcileCorrectsDriftInsideTransaction() {
+        UserAccount user = new UserAccount();
+        user.setId(1L);
+        user.setUsername("drifted");
+        user.setCurrentSalaryUsed(50.0);
+        user.setMajorLeagueRosterCount(5);
+        user.setMinorLeagueRosterCount(0);
+
+        PlayerRepository.OwnerRosterTotals totals = mock(PlayerRepository.OwnerRosterTotals.class);
+        when(totals.getOwnerId()).thenReturn(1L);
+        when(totals.getTotalSalary()).thenReturn(10000000.0);
+        when(totals.getMajorLeagueCount()).thenReturn(1L);
+        when(totals.getMinorLeagueCount()).thenReturn(0L);
+
+        PlayerRepository playerRepository = mock(PlayerRepository.class);
+        when(playerRepository.findRosterTotalsByOwner()).thenReturn(List.of(totals));
+
+        // Like a @Modifying query, these fail unless a transaction is active
+        UserAccountRepository userAccountRepository = mock(UserAccountRepository.class);
+        when(userAccountRepository.findAll()).thenReturn(List.of(user));
+        when(userAccountRepository.setRosterCounts(anyLong(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            TransactionAspectSupport.currentTransactionStatus();
+            return 1;
+        });
+        when(userAccountRepository.setSalaryUsed(anyLong(), anyDouble())).thenAnswer(invocation -> {
+            TransactionAspectSupport.currentTransactionStatus();
+            return 1;
+        });
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(TransactionConfig.class, RosterAccountingService.class);
+            context.registerBean(PlayerRepository.class, () -> playerRepository);
+            context.registerBean(UserAccountRepository.class, () -> userAccountRepository);
+            context.registerBean(PlatformTransactionManager.class, () -> transactionManager);
+            context.refresh();
+
+            assertDoesNotThrow(() -> context.publishEvent(
+                    new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO)));
+        }
+
+        // The repository methods open their own transactions, so check that reconcile() had one too
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, atLeastOnce()).getTransaction(definitions.capture());
+        assertTrue(definitions.getAllValues().stream()
+                        .anyMatch(d -> "com.fantasyia.team.RosterAccountingService.reconcile".equals(d.getName())),
+                "reconcile() should run in its own transaction when called at startup");
+
+        verify(userAccountRepository).setRosterCounts(1L, 1, 0);
+        verify(userAccountRepository).setSalaryUsed(eq(1L), eq(10.0));
+
+        System.out.println("✓ Startup reconcile corrected drift inside a transaction");
+    }
+}
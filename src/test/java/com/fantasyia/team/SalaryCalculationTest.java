@@ -1,8 +1,17 @@
 package com.fantasyia.team;
 
 import com.fantasyia.user.UserAccount;
+import com.fantasyia.user.UserAccountRepository;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * Integration test to verify salary calculation functionality
@@ -54,4 +63,31 @@ public class SalaryCalculationTest {
         
         System.out.println("✓ Roster space calculation tests passed");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testPostedContractIsFullyReleasedOnRemoval() {
+        UserAccountRepository userAccountRepository = mock(UserAccountRepository.class);
+        double[] salaryUsed = {0.0};
+        when(userAccountRepository.adjustRosterTotals(eq(1L), anyDouble(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            salaryUsed[0] += invocation.<Double>getArgument(1);
+            return 1;
+        });
+
+        RosterAccountingService accounting = new RosterAccountingService();
+        ReflectionTestUtils.setField(accounting, "userAccountRepository", userAccountRepository);
+        ReflectionTestUtils.setField(accounting, "eventPublisher", mock(ApplicationEventPublisher.class));
+
+        // A $12.5M winning bid is stored on the player in dollars
+        Player player = new Player("Auction Player", "SS", "SEA", 3, 0.0, 1L);
+        player.setAverageAnnualSalary(accounting.dollarsOf(12.5));
+        player.setIsMinorLeaguer(false);
+
+        accounting.contractPosted(1L, player.getAverageAnnualSalary(), false);
+        assertEquals(12.5, salaryUsed[0], 0.0001);
+
+        accounting.playerRemoved(1L, player);
+        assertEquals(0.0, salaryUsed[0], 0.0001);
+
+        System.out.println("✓ Posted contract salary released in full on removal");
+    }
+}